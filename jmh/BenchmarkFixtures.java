@@ -0,0 +1,687 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+
+/**
+ * The graphs and operations the JMH benchmarks in the benchmarks package measure.
+ *
+ * JMH refuses benchmark classes in the default package, and classes in a named package cannot
+ * refer to the default package at all, so every benchmark builds its state by calling one of the
+ * public static methods here, by name, from its @Setup method (see benchmarks.Fixtures). Each method
+ * builds a graph and returns the operations to measure keyed by benchmark method name; an
+ * operation returns an int the benchmark sinks into a Blackhole.
+ *
+ * Setup that used to be reported beside the timings, such as how long an index took to build or how
+ * much heap a graph keeps live, is printed with a leading '#', which JMH passes through.
+ */
+public final class BenchmarkFixtures {
+  private static final PrintStream NOWHERE = new PrintStream(OutputStream.nullOutputStream());
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Builds one of the generated graph families the benchmarks share.
+   *
+   * @param family One of chain, sparse, powerLaw, clique and cyclic.
+   * @return The vertices, indexed by value.
+   */
+  public static List<Vertex<Integer>> family(String family) {
+    switch(family){
+      case "chain":
+        return GraphGenerator.chain(200_000);
+      case "sparse":
+        return GraphGenerator.randomSparse(100_000, 4, 1);
+      case "powerLaw":
+        return GraphGenerator.powerLaw(100_000, 4, 2);
+      case "clique":
+        return GraphGenerator.clique(500);
+      case "cyclic":
+        return GraphGenerator.cyclic(100_000, 3);
+      default:
+        throw new IllegalArgumentException("Unknown graph family: " + family);
+    }
+  }
+
+  /**
+   * The Practice operations from the root of a family, for a Practice tracking visited vertices
+   * with a HashSet, with a frozen VertexIndex, or with TraversalMetrics recording every run.
+   *
+   * @param family The graph family.
+   * @param model One of hashed, indexed and metered.
+   * @return printVertexVals, printVertexValsBuffered, reachable, max, leaves and hasStrictlyIncreasingPath.
+   */
+  public static Map<String, IntSupplier> practice(String family, String model) {
+    List<Vertex<Integer>> vertices = family(family);
+    Vertex<Integer> root = vertices.get(0);
+    Vertex<Integer> last = vertices.get(vertices.size() - 1);
+    Practice practice;
+    switch(model){
+      case "hashed":
+        practice = new Practice();
+        break;
+      case "indexed":
+        practice = new Practice(VertexIndex.freeze(root));
+        break;
+      case "metered":
+        practice = new Practice(new TraversalMetrics());
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown model: " + model);
+    }
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("printVertexVals", () -> {
+      // printVertexVals writes to System.out, which must not flood the report.
+      PrintStream out = System.out;
+      System.setOut(NOWHERE);
+      try {
+        practice.printVertexVals(root);
+      } finally {
+        System.setOut(out);
+      }
+      return 1;
+    });
+    ValuePrinter printer = new ValuePrinter(Writer.nullWriter());
+    operations.put("printVertexValsBuffered", () -> {
+      try {
+        practice.printVertexVals(root, printer);
+      } catch(IOException e){
+        throw new UncheckedIOException(e);
+      }
+      return 1;
+    });
+    operations.put("reachable", () -> practice.reachable(root).size());
+    operations.put("max", () -> practice.max(root));
+    operations.put("leaves", () -> practice.leaves(root).size());
+    operations.put("hasStrictlyIncreasingPath", () -> practice.hasStrictlyIncreasingPath(root, last) ? 1 : 0);
+    return operations;
+  }
+
+  /**
+   * The IntPractice operations from the root of a family copied into IntVertex form.
+   *
+   * @param family The graph family.
+   * @return reachable, max and hasStrictlyIncreasingPath.
+   */
+  public static Map<String, IntSupplier> intPractice(String family) {
+    List<Vertex<Integer>> vertices = family(family);
+    Vertex<Integer> last = vertices.get(vertices.size() - 1);
+    List<IntVertex> copies = IntVertex.copyOf(vertices.get(0));
+    IntVertex root = copies.get(0);
+    // Values are unique, so the copy of last is the one holding its value, if it is reachable.
+    IntVertex intLast = copies.stream().filter(copy -> copy.data() == last.data).findFirst()
+        .orElse(new IntVertex(last.data));
+    IntPractice practice = new IntPractice();
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("reachable", () -> practice.reachable(root).size());
+    operations.put("max", () -> practice.max(root));
+    operations.put("hasStrictlyIncreasingPath", () -> practice.hasStrictlyIncreasingPath(root, intLast) ? 1 : 0);
+    return operations;
+  }
+
+  /**
+   * Increasing-path queries between random pairs of vertices, answered by a depth-first search,
+   * by an IncreasingPathIndex and by a BidirectionalPathSearch.
+   *
+   * @param family The graph family.
+   * @return dfs, index and bidirectional.
+   */
+  public static Map<String, IntSupplier> increasingPath(String family) {
+    List<Vertex<Integer>> vertices = family(family);
+    IncreasingPathIndex index = IncreasingPathIndex.build(vertices.get(0));
+    System.out.printf("# index of %d vertices built in %.1f ms, %.1f MB%n", index.size(),
+        index.buildNanos() / 1e6, index.memoryBytes() / 1e6);
+    BidirectionalPathSearch search = BidirectionalPathSearch.build(vertices.get(0));
+
+    Random random = new Random(17);
+    int[][] queries = new int[1024][2];
+    for(int[] query : queries){
+      query[0] = random.nextInt(vertices.size());
+      query[1] = random.nextInt(vertices.size());
+    }
+    TraversalMetrics metrics = new TraversalMetrics();
+    Practice metered = new Practice(metrics);
+    long bidirectionalVisited = 0;
+    for(int[] query : queries){
+      metered.hasStrictlyIncreasingPath(vertices.get(query[0]), vertices.get(query[1]));
+      search.hasStrictlyIncreasingPath(vertices.get(query[0]), vertices.get(query[1]));
+      bidirectionalVisited += Math.max(0, search.lastVisited());
+    }
+    System.out.printf("# vertices visited per query, dfs %.1f, bidirectional %.1f%n",
+        (double) metrics.verticesVisited() / queries.length, (double) bidirectionalVisited / queries.length);
+
+    Practice practice = new Practice();
+    int[] next = {0};
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("dfs", () -> {
+      int[] query = queries[next[0]++ & (queries.length - 1)];
+      return practice.hasStrictlyIncreasingPath(vertices.get(query[0]), vertices.get(query[1])) ? 1 : 0;
+    });
+    operations.put("index", () -> {
+      int[] query = queries[next[0]++ & (queries.length - 1)];
+      return index.hasStrictlyIncreasingPath(vertices.get(query[0]), vertices.get(query[1])) ? 1 : 0;
+    });
+    operations.put("bidirectional", () -> {
+      int[] query = queries[next[0]++ & (queries.length - 1)];
+      return search.hasStrictlyIncreasingPath(vertices.get(query[0]), vertices.get(query[1])) ? 1 : 0;
+    });
+    return operations;
+  }
+
+  /**
+   * Max and reachable-size queries from random roots, answered by a depth-first search and by a
+   * Condensation.
+   *
+   * @param family The graph family.
+   * @return maxDfs, maxCondensed and reachableSizeCondensed.
+   */
+  public static Map<String, IntSupplier> condensation(String family) {
+    List<Vertex<Integer>> vertices = family(family);
+    long begin = System.nanoTime();
+    Condensation<Integer> condensation = Condensation.of(vertices.get(0));
+    System.out.printf("# %d components built in %.1f ms%n", condensation.componentCount(),
+        (System.nanoTime() - begin) / 1e6);
+
+    Random random = new Random(19);
+    int[] roots = new int[1024];
+    for(int i = 0; i < roots.length; i++){
+      roots[i] = random.nextInt(vertices.size());
+    }
+    Practice practice = new Practice();
+    int[] next = {0};
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("maxDfs", () -> practice.max(vertices.get(roots[next[0]++ & (roots.length - 1)])));
+    operations.put("maxCondensed", () -> condensation.max(vertices.get(roots[next[0]++ & (roots.length - 1)])));
+    operations.put("reachableSizeCondensed",
+        () -> condensation.reachableSize(vertices.get(roots[next[0]++ & (roots.length - 1)])));
+    return operations;
+  }
+
+  /**
+   * Applies a number of edge updates to a sparse graph and then reads the reachable-set size of
+   * four tracked roots, maintained incrementally by DynamicReachability or recomputed from scratch.
+   * Each update of incremental and recompute is an insertion later undone by a deletion, so the
+   * graph does not drift; insertOnly lets the tracked graph grow, which is the case incremental
+   * maintenance is built for.
+   *
+   * @param updates The number of edge updates per operation.
+   * @return incremental, recompute and insertOnly.
+   */
+  public static Map<String, IntSupplier> dynamicReachability(int updates) {
+    List<Vertex<Integer>> vertices = GraphGenerator.randomSparse(50_000, 2, 23);
+    List<Vertex<Integer>> roots = vertices.subList(0, 4);
+    DynamicReachability<Integer> dynamic = new DynamicReachability<>(Integer::compare);
+    for(Vertex<Integer> root : roots){
+      dynamic.track(root);
+    }
+    Practice practice = new Practice();
+    Random random = new Random(29);
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("incremental", () -> {
+      for(int u = 0; u < updates; u++){
+        Vertex<Integer> from = vertices.get(random.nextInt(vertices.size()));
+        Vertex<Integer> to = vertices.get(random.nextInt(vertices.size()));
+        dynamic.addEdge(from, to);
+        dynamic.removeEdge(from, to);
+      }
+      int total = 0;
+      for(Vertex<Integer> root : roots){
+        total += dynamic.reachable(root).size();
+      }
+      return total;
+    });
+    operations.put("recompute", () -> {
+      for(int u = 0; u < updates; u++){
+        Vertex<Integer> from = vertices.get(random.nextInt(vertices.size()));
+        Vertex<Integer> to = vertices.get(random.nextInt(vertices.size()));
+        from.neighbors.add(to);
+        from.neighbors.remove(from.neighbors.size() - 1);
+      }
+      int total = 0;
+      for(Vertex<Integer> root : roots){
+        total += practice.reachable(root).size();
+      }
+      return total;
+    });
+    operations.put("insertOnly", () -> {
+      for(int u = 0; u < updates; u++){
+        dynamic.addEdge(vertices.get(random.nextInt(vertices.size())),
+            vertices.get(random.nextInt(vertices.size())));
+      }
+      int total = 0;
+      for(Vertex<Integer> root : roots){
+        total += dynamic.reachable(root).size();
+      }
+      return total;
+    });
+    return operations;
+  }
+
+  /**
+   * Full max and reachable queries over a CSR graph built from Vertex objects and over the same
+   * graph written to a file and memory-mapped. Prints what building and mapping each one costs.
+   *
+   * @param family The graph family.
+   * @return maxCsr, maxMapped and reachableMapped.
+   */
+  public static Map<String, IntSupplier> binaryGraph(String family) {
+    Vertex<Integer> root = family(family).get(0);
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+    CsrGraph<Integer> csr;
+    BinaryGraph mapped;
+    try {
+      Path file = Files.createTempFile("benchmark", ".graph");
+      file.toFile().deleteOnExit();
+      BinaryGraph.write(root, file);
+
+      long allocated = threads.getThreadAllocatedBytes(thread);
+      long begin = System.nanoTime();
+      csr = CsrGraph.ofInts(root);
+      System.out.printf("# CSR built from vertices in %.1f ms, %.1f MB allocated%n",
+          (System.nanoTime() - begin) / 1e6, (threads.getThreadAllocatedBytes(thread) - allocated) / 1e6);
+      allocated = threads.getThreadAllocatedBytes(thread);
+      begin = System.nanoTime();
+      mapped = BinaryGraph.open(file);
+      System.out.printf("# %.1f MB file mapped in %.1f ms, %.1f MB allocated%n", Files.size(file) / 1e6,
+          (System.nanoTime() - begin) / 1e6, (threads.getThreadAllocatedBytes(thread) - allocated) / 1e6);
+    } catch(IOException e){
+      throw new UncheckedIOException(e);
+    }
+
+    Practice practice = new Practice();
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("maxCsr", () -> practice.max(csr, 0));
+    operations.put("maxMapped", () -> practice.max(mapped, 0));
+    operations.put("reachableMapped", () -> practice.reachable(mapped, 0).cardinality());
+    return operations;
+  }
+
+  /**
+   * Reachable queries from a batch of random sources of a CSR graph, answered one source at a time
+   * and by one batched call. One operation answers the whole batch.
+   *
+   * @param family The graph family.
+   * @param batch The number of sources per operation.
+   * @return each and batched.
+   */
+  public static Map<String, IntSupplier> multiSource(String family, int batch) {
+    CsrGraph<Integer> graph = CsrGraph.ofInts(family(family).get(0));
+    Practice practice = new Practice();
+    Random random = new Random(31);
+    int[] sources = new int[batch];
+    for(int i = 0; i < batch; i++){
+      sources[i] = random.nextInt(graph.vertexCount());
+    }
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("each", () -> {
+      int total = 0;
+      for(int source : sources){
+        total += practice.reachable(graph, source).cardinality();
+      }
+      return total;
+    });
+    operations.put("batched", () -> {
+      int total = 0;
+      for(BitSet reached : practice.reachable(graph, sources)){
+        total += reached.cardinality();
+      }
+      return total;
+    });
+    return operations;
+  }
+
+  /**
+   * Readers and a writer sharing one graph. Readers of a SnapshotGraph traverse the latest published
+   * snapshot from a random root without locking; the baseline guards one mutable graph with a
+   * read-write lock that the writer takes for every batch. A write moves WRITE_BATCH random edges
+   * and publishes them; the benchmark paces its writer.
+   *
+   * @param family The graph family.
+   * @return readSnapshot, writeSnapshot, readLocked and writeLocked.
+   */
+  public static Map<String, IntSupplier> snapshots(String family) {
+    SnapshotGraph<Integer> snapshots = SnapshotGraph.of(family(family).get(0));
+    GraphSnapshot<Integer> initial = snapshots.snapshot();
+    int n = initial.vertexCount();
+    int[][] rows = new int[n][];
+    Object[] values = new Object[n];
+    for(int v = 0; v < n; v++){
+      rows[v] = new int[initial.degree(v)];
+      for(int i = 0; i < rows[v].length; i++){
+        rows[v][i] = initial.neighbor(v, i);
+      }
+      values[v] = initial.value(v);
+    }
+    GraphSnapshot<Integer> shared = new GraphSnapshot<>(0, n, rows, values);
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+    Practice practice = new Practice();
+    // Only the single writer thread uses it.
+    Random random = new Random(37);
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("readSnapshot",
+        () -> practice.reachable(snapshots.snapshot(), ThreadLocalRandom.current().nextInt(n)).cardinality());
+    operations.put("writeSnapshot", () -> {
+      snapshots.update(graph -> {
+        for(int i = 0; i < WRITE_BATCH; i++){
+          // Move an edge to a random vertex: the graph keeps its size while its shape changes.
+          int from = random.nextInt(1_000);
+          if(graph.removeEdge(from, random.nextInt(1_000)) || random.nextBoolean()){
+            graph.addEdge(from, random.nextInt(1_000));
+          }
+        }
+      });
+      return 1;
+    });
+    operations.put("readLocked", () -> {
+      lock.readLock().lock();
+      try {
+        return practice.reachable(shared, ThreadLocalRandom.current().nextInt(n)).cardinality();
+      } finally {
+        lock.readLock().unlock();
+      }
+    });
+    operations.put("writeLocked", () -> {
+      lock.writeLock().lock();
+      try {
+        for(int i = 0; i < WRITE_BATCH; i++){
+          int from = random.nextInt(1_000);
+          if(removeEdge(rows, from, random.nextInt(1_000)) || random.nextBoolean()){
+            addEdge(rows, from, random.nextInt(1_000));
+          }
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+      return 1;
+    });
+    return operations;
+  }
+
+  private static final int WRITE_BATCH = 16;
+
+  private static boolean removeEdge(int[][] rows, int from, int to) {
+    int[] row = rows[from];
+    for(int i = 0; i < row.length; i++){
+      if(row[i] != to) continue;
+      int[] copy = new int[row.length - 1];
+      System.arraycopy(row, 0, copy, 0, i);
+      System.arraycopy(row, i + 1, copy, i, row.length - i - 1);
+      rows[from] = copy;
+      return true;
+    }
+    return false;
+  }
+
+  private static void addEdge(int[][] rows, int from, int to) {
+    int[] row = rows[from];
+    int[] copy = Arrays.copyOf(row, row.length + 1);
+    copy[row.length] = to;
+    rows[from] = copy;
+  }
+
+  /**
+   * Reachable and max queries from 16 hot roots, through Practice and through a CachingPractice,
+   * both with a stable graph and with the cache invalidated every INVALIDATE_EVERY queries as an
+   * edited graph would be.
+   *
+   * @param family The graph family.
+   * @return uncached, cached and invalidated.
+   */
+  public static Map<String, IntSupplier> cache(String family) {
+    List<Vertex<Integer>> vertices = family(family);
+    Random random = new Random(41);
+    List<Vertex<Integer>> roots = new ArrayList<>();
+    for(int i = 0; i < 16; i++){
+      roots.add(vertices.get(random.nextInt(vertices.size())));
+    }
+    Practice practice = new Practice();
+    CachingPractice stable = new CachingPractice(practice, 64);
+    CachingPractice edited = new CachingPractice(practice, 64);
+    int[] next = new int[1];
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("uncached", () -> {
+      Vertex<Integer> root = roots.get(next[0]++ & 15);
+      return practice.reachable(root).size() + practice.max(root);
+    });
+    operations.put("cached", () -> {
+      Vertex<Integer> root = roots.get(next[0]++ & 15);
+      return stable.reachable(root).size() + stable.max(root);
+    });
+    operations.put("invalidated", () -> {
+      if(++next[0] % INVALIDATE_EVERY == 0) edited.invalidate();
+      Vertex<Integer> root = roots.get(next[0] & 15);
+      return edited.reachable(root).size() + edited.max(root);
+    });
+    return operations;
+  }
+
+  private static final int INVALIDATE_EVERY = 256;
+
+  /**
+   * A burst of ASYNC_BURST small path queries on the power-law family, answered one after another
+   * and by submitting them all through an AsyncPractice and waiting for every answer, once on its
+   * default executor and once on a fixed pool of four daemon threads. One operation answers the
+   * whole burst. The executors live until the JVM exits.
+   *
+   * @return sequential, defaultExecutor and fixedPool4.
+   */
+  public static Map<String, IntSupplier> async() {
+    List<Vertex<Integer>> vertices = family("powerLaw");
+    Random random = new Random(43);
+    List<Vertex<Integer>> starts = new ArrayList<>();
+    List<Vertex<Integer>> ends = new ArrayList<>();
+    for(int i = 0; i < ASYNC_BURST; i++){
+      starts.add(vertices.get(random.nextInt(vertices.size())));
+      ends.add(vertices.get(random.nextInt(vertices.size())));
+    }
+    Practice practice = new Practice();
+    AsyncPractice byDefault = new AsyncPractice(practice);
+    System.out.printf("# default executor uses %s threads%n", byDefault.usesVirtualThreads() ? "virtual" : "cached platform");
+    ExecutorService fixed = Executors.newFixedThreadPool(4, runnable -> {
+      Thread thread = new Thread(runnable);
+      thread.setDaemon(true);
+      return thread;
+    });
+    AsyncPractice pooled = new AsyncPractice(practice, fixed);
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("sequential", () -> {
+      int found = 0;
+      for(int i = 0; i < ASYNC_BURST; i++){
+        if(practice.hasStrictlyIncreasingPath(starts.get(i), ends.get(i))) found++;
+      }
+      return found;
+    });
+    for(AsyncPractice async : new AsyncPractice[] {byDefault, pooled}){
+      operations.put(async == byDefault ? "defaultExecutor" : "fixedPool4", () -> {
+        List<CompletableFuture<Boolean>> answers = new ArrayList<>(ASYNC_BURST);
+        for(int i = 0; i < ASYNC_BURST; i++){
+          answers.add(async.hasStrictlyIncreasingPath(starts.get(i), ends.get(i), Duration.ofSeconds(10)));
+        }
+        int found = 0;
+        for(CompletableFuture<Boolean> answer : answers){
+          if(answer.join()) found++;
+        }
+        return found;
+      });
+    }
+    return operations;
+  }
+
+  private static final int ASYNC_BURST = 1_000;
+
+  /**
+   * Full reachable and max queries over a sparse graph of OFF_HEAP_VERTICES vertices, kept either
+   * as Vertex objects or copied off the heap into a BinaryGraph. Prints the heap each model keeps
+   * live after a full collection; run with -prof gc to see the collections during the queries.
+   *
+   * @param model One of vertex and offHeap.
+   * @return reachable and max.
+   */
+  public static Map<String, IntSupplier> offHeap(String model) {
+    long baseline = liveHeap();
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    switch(model){
+      case "vertex":
+        Vertex<Integer> root = GraphGenerator.randomSparse(OFF_HEAP_VERTICES, 4, 7).get(0);
+        System.out.printf("# live heap: vertex model %.1f MB%n", (liveHeap() - baseline) / 1e6);
+        Practice practice = new Practice();
+        operations.put("reachable", () -> practice.reachable(root).size());
+        operations.put("max", () -> practice.max(root));
+        return operations;
+      case "offHeap":
+        BinaryGraph graph = offHeapGraph();
+        OffHeapTraversal traversal = new OffHeapTraversal(graph);
+        System.out.printf("# live heap: off-heap graph %+.1f MB against the baseline, plus %.1f MB of direct memory%n",
+            (liveHeap() - baseline) / 1e6, (4.0 * (2L * graph.vertexCount() + 1 + graph.edgeCount())
+                + 4.0 * graph.vertexCount() + graph.vertexCount() / 8.0) / 1e6);
+        operations.put("reachable", () -> (int) traversal.reachable(0).count());
+        operations.put("max", () -> traversal.max(0));
+        return operations;
+      default:
+        throw new IllegalArgumentException("Unknown model: " + model);
+    }
+  }
+
+  // The Vertex graph is only reachable inside this call, so it is garbage once it returns.
+  private static BinaryGraph offHeapGraph() {
+    return BinaryGraph.offHeap(GraphGenerator.randomSparse(OFF_HEAP_VERTICES, 4, 7).get(0));
+  }
+
+  private static final int OFF_HEAP_VERTICES = 1_000_000;
+
+  /**
+   * Runs full collections until the heap in use stops shrinking, and returns it. A single
+   * collection can still find garbage that was reachable from a frame that has just returned.
+   */
+  private static long liveHeap() {
+    long used = Long.MAX_VALUE;
+    for(int i = 0; i < 10; i++){
+      System.gc();
+      long now = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+      if(now >= used) return now;
+      used = now;
+    }
+    return used;
+  }
+
+  /**
+   * Reachable queries from random roots of a family, unbounded, within two edges of the root, or
+   * visiting at most 1000 vertices.
+   *
+   * @param family The graph family.
+   * @param limit One of unbounded, depth2 and visits1000.
+   * @return reachable.
+   */
+  public static Map<String, IntSupplier> bounded(String family, String limit) {
+    List<Vertex<Integer>> vertices = family(family);
+    TraversalLimit traversalLimit;
+    switch(limit){
+      case "unbounded":
+        traversalLimit = TraversalLimit.NONE;
+        break;
+      case "depth2":
+        traversalLimit = TraversalLimit.depth(2);
+        break;
+      case "visits1000":
+        traversalLimit = TraversalLimit.visits(1_000);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown limit: " + limit);
+    }
+    Practice practice = new Practice();
+    Random random = new Random(47);
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    operations.put("reachable",
+        () -> practice.reachable(vertices.get(random.nextInt(vertices.size())), traversalLimit).value().size());
+    return operations;
+  }
+
+  /**
+   * Full reachable and max queries over a CSR graph of REORDER_VERTICES vertices whose ids were
+   * shuffled at random, so that neighbors are scattered across memory, either as shuffled or after
+   * a ReorderedGraph ordering. The reorder operation measures building the ordering; for random it
+   * measures applying a random permutation, the cost every ordering shares.
+   *
+   * @param family One of sparse and powerLaw.
+   * @param ordering random, or the name of a ReorderedGraph.Ordering.
+   * @return reachable, max and reorder.
+   */
+  public static Map<String, IntSupplier> reordering(String family, String ordering) {
+    Vertex<Integer> root = family.equals("sparse")
+        ? GraphGenerator.randomSparse(REORDER_VERTICES, 4, 11).get(0)
+        : GraphGenerator.powerLaw(REORDER_VERTICES, 4, 13).get(0);
+    CsrGraph<Integer> discovered = CsrGraph.ofInts(root);
+    int[] ids = randomPermutation(discovered.vertexCount());
+    CsrGraph<Integer> scattered = discovered.permute(ids);
+    Practice practice = new Practice();
+
+    Map<String, IntSupplier> operations = new LinkedHashMap<>();
+    if(ordering.equals("random")){
+      operations.put("reachable", () -> practice.reachable(scattered, 0).cardinality());
+      operations.put("max", () -> practice.max(scattered, 0));
+      operations.put("reorder", () -> discovered.permute(ids).vertexCount());
+      return operations;
+    }
+    ReorderedGraph.Ordering order = ReorderedGraph.Ordering.valueOf(ordering);
+    ReorderedGraph<Integer> reordered = ReorderedGraph.of(scattered, order);
+    CsrGraph<Integer> graph = reordered.graph();
+    int start = reordered.newId(0);
+    operations.put("reachable", () -> practice.reachable(graph, start).cardinality());
+    operations.put("max", () -> practice.max(graph, start));
+    operations.put("reorder", () -> ReorderedGraph.of(scattered, order).graph().vertexCount());
+    return operations;
+  }
+
+  private static final int REORDER_VERTICES = 1_000_000;
+
+  /**
+   * Returns a random permutation of 0..size-1 that keeps 0, the root every graph was discovered
+   * from, in place.
+   */
+  private static int[] randomPermutation(int size) {
+    int[] ids = new int[size];
+    Random random = new Random(17);
+    for(int i = 0; i < ids.length; i++){
+      int j = random.nextInt(i + 1);
+      ids[i] = ids[j];
+      ids[j] = i;
+    }
+    for(int i = 0; i < ids.length; i++){
+      if(ids[i] == 0){
+        ids[i] = ids[0];
+        ids[0] = 0;
+        break;
+      }
+    }
+    return ids;
+  }
+}
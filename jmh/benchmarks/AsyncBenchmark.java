@@ -0,0 +1,57 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A burst of 1000 small path queries answered one after another against submitting them all
+ * through an AsyncPractice, on its default executor and on a fixed pool of four threads. One
+ * operation answers the whole burst.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncBenchmark {
+  private IntSupplier sequential;
+  private IntSupplier defaultExecutor;
+  private IntSupplier fixedPool4;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("async");
+    sequential = Fixtures.operation(operations, "sequential");
+    defaultExecutor = Fixtures.operation(operations, "defaultExecutor");
+    fixedPool4 = Fixtures.operation(operations, "fixedPool4");
+  }
+
+  @Benchmark
+  public void sequential(Blackhole blackhole) {
+    blackhole.consume(sequential.getAsInt());
+  }
+
+  @Benchmark
+  public void defaultExecutor(Blackhole blackhole) {
+    blackhole.consume(defaultExecutor.getAsInt());
+  }
+
+  @Benchmark
+  public void fixedPool4(Blackhole blackhole) {
+    blackhole.consume(fixedPool4.getAsInt());
+  }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full traversals of a memory-mapped binary graph against the CSR graph it replaces. The fixture
+ * prints what building and mapping each one costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryGraphBenchmark {
+  @Param({"chain", "sparse", "powerLaw", "clique", "cyclic"})
+  public String family;
+
+  private IntSupplier maxCsr;
+  private IntSupplier maxMapped;
+  private IntSupplier reachableMapped;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("binaryGraph", family);
+    maxCsr = Fixtures.operation(operations, "maxCsr");
+    maxMapped = Fixtures.operation(operations, "maxMapped");
+    reachableMapped = Fixtures.operation(operations, "reachableMapped");
+  }
+
+  @Benchmark
+  public void maxCsr(Blackhole blackhole) {
+    blackhole.consume(maxCsr.getAsInt());
+  }
+
+  @Benchmark
+  public void maxMapped(Blackhole blackhole) {
+    blackhole.consume(maxMapped.getAsInt());
+  }
+
+  @Benchmark
+  public void reachableMapped(Blackhole blackhole) {
+    blackhole.consume(reachableMapped.getAsInt());
+  }
+}
@@ -0,0 +1,50 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reachable queries from random roots, unbounded, within two edges of the root, or visiting at
+ * most 1000 vertices. Sampled rather than timed in bulk, so JMH reports the latency percentiles a
+ * limit exists to cap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundedBenchmark {
+  @Param({"sparse", "powerLaw"})
+  public String family;
+
+  @Param({"unbounded", "depth2", "visits1000"})
+  public String limit;
+
+  private IntSupplier reachable;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("bounded", family, limit);
+    reachable = Fixtures.operation(operations, "reachable");
+  }
+
+  @Benchmark
+  public void reachable(Blackhole blackhole) {
+    blackhole.consume(reachable.getAsInt());
+  }
+}
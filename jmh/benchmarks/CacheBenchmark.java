@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Repeated queries from a few hot roots through Practice and through a CachingPractice, with a
+ * stable graph and with the cache invalidated regularly as an edited graph would be.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+  @Param({"sparse", "powerLaw"})
+  public String family;
+
+  private IntSupplier uncached;
+  private IntSupplier cached;
+  private IntSupplier invalidated;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("cache", family);
+    uncached = Fixtures.operation(operations, "uncached");
+    cached = Fixtures.operation(operations, "cached");
+    invalidated = Fixtures.operation(operations, "invalidated");
+  }
+
+  @Benchmark
+  public void uncached(Blackhole blackhole) {
+    blackhole.consume(uncached.getAsInt());
+  }
+
+  @Benchmark
+  public void cached(Blackhole blackhole) {
+    blackhole.consume(cached.getAsInt());
+  }
+
+  @Benchmark
+  public void invalidated(Blackhole blackhole) {
+    blackhole.consume(invalidated.getAsInt());
+  }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Max and reachable-size queries from random roots, answered by a depth-first search and by a
+ * Condensation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CondensationBenchmark {
+  @Param({"chain", "sparse", "powerLaw", "clique", "cyclic"})
+  public String family;
+
+  private IntSupplier maxDfs;
+  private IntSupplier maxCondensed;
+  private IntSupplier reachableSizeCondensed;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("condensation", family);
+    maxDfs = Fixtures.operation(operations, "maxDfs");
+    maxCondensed = Fixtures.operation(operations, "maxCondensed");
+    reachableSizeCondensed = Fixtures.operation(operations, "reachableSizeCondensed");
+  }
+
+  @Benchmark
+  public void maxDfs(Blackhole blackhole) {
+    blackhole.consume(maxDfs.getAsInt());
+  }
+
+  @Benchmark
+  public void maxCondensed(Blackhole blackhole) {
+    blackhole.consume(maxCondensed.getAsInt());
+  }
+
+  @Benchmark
+  public void reachableSizeCondensed(Blackhole blackhole) {
+    blackhole.consume(reachableSizeCondensed.getAsInt());
+  }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Incremental reachability maintenance against recomputing every tracked root from scratch, for
+ * a growing number of edge updates per operation. insertOnly lets the graph grow; each benchmark
+ * runs in its own fork, so it does not affect the other two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicReachabilityBenchmark {
+  @Param({"1", "10", "100"})
+  public int updates;
+
+  private IntSupplier incremental;
+  private IntSupplier recompute;
+  private IntSupplier insertOnly;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("dynamicReachability", updates);
+    incremental = Fixtures.operation(operations, "incremental");
+    recompute = Fixtures.operation(operations, "recompute");
+    insertOnly = Fixtures.operation(operations, "insertOnly");
+  }
+
+  @Benchmark
+  public void incremental(Blackhole blackhole) {
+    blackhole.consume(incremental.getAsInt());
+  }
+
+  @Benchmark
+  public void recompute(Blackhole blackhole) {
+    blackhole.consume(recompute.getAsInt());
+  }
+
+  @Benchmark
+  public void insertOnly(Blackhole blackhole) {
+    blackhole.consume(insertOnly.getAsInt());
+  }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Loads benchmark state from the default-package BenchmarkFixtures class.
+ *
+ * JMH refuses benchmark classes in the default package, and a class in a named package cannot refer
+ * to one in the default package, so benchmarks reach the graph code through this one reflective
+ * call in their @Setup methods. The operations it returns are plain IntSuppliers, called directly
+ * in the measured loop; each benchmark runs in its own fork, so every call site sees one lambda.
+ */
+final class Fixtures {
+
+  private Fixtures() {
+  }
+
+  /**
+   * Calls the public static BenchmarkFixtures method of the given name.
+   *
+   * @param fixture The name of the method.
+   * @param params Its arguments, usually the benchmark's @Param values.
+   * @return The operations the fixture built, keyed by benchmark method name.
+   * @throws IllegalStateException if there is no such fixture or it fails.
+   */
+  @SuppressWarnings("unchecked")
+  static Map<String, IntSupplier> load(String fixture, Object... params) {
+    try {
+      for(Method method : Class.forName("BenchmarkFixtures").getMethods()){
+        if(method.getName().equals(fixture) && method.getParameterCount() == params.length){
+          return (Map<String, IntSupplier>) method.invoke(null, params);
+        }
+      }
+      throw new IllegalStateException("No fixture named " + fixture + " taking " + params.length + " parameters.");
+    } catch(InvocationTargetException e){
+      throw new IllegalStateException("Fixture " + fixture + " failed.", e.getCause());
+    } catch(ReflectiveOperationException e){
+      throw new IllegalStateException("Cannot load fixture " + fixture + ".", e);
+    }
+  }
+
+  /**
+   * Returns one operation of a loaded fixture.
+   *
+   * @throws IllegalStateException if the fixture has no such operation.
+   */
+  static IntSupplier operation(Map<String, IntSupplier> operations, String name) {
+    IntSupplier operation = operations.get(name);
+    if(operation == null){
+      throw new IllegalStateException("Fixture has no operation named " + name + ".");
+    }
+    return operation;
+  }
+}
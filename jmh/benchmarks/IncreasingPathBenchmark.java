@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Increasing-path queries between random pairs of vertices, answered by a depth-first search, by
+ * an IncreasingPathIndex and by a BidirectionalPathSearch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncreasingPathBenchmark {
+  @Param({"chain", "sparse", "powerLaw", "clique", "cyclic"})
+  public String family;
+
+  private IntSupplier dfs;
+  private IntSupplier index;
+  private IntSupplier bidirectional;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("increasingPath", family);
+    dfs = Fixtures.operation(operations, "dfs");
+    index = Fixtures.operation(operations, "index");
+    bidirectional = Fixtures.operation(operations, "bidirectional");
+  }
+
+  @Benchmark
+  public void dfs(Blackhole blackhole) {
+    blackhole.consume(dfs.getAsInt());
+  }
+
+  @Benchmark
+  public void index(Blackhole blackhole) {
+    blackhole.consume(index.getAsInt());
+  }
+
+  @Benchmark
+  public void bidirectional(Blackhole blackhole) {
+    blackhole.consume(bidirectional.getAsInt());
+  }
+}
@@ -0,0 +1,59 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The IntPractice operations from the root of each graph family copied into IntVertex form.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntPracticeBenchmark {
+  @Param({"chain", "sparse", "powerLaw", "clique", "cyclic"})
+  public String family;
+
+  private IntSupplier reachable;
+  private IntSupplier max;
+  private IntSupplier hasStrictlyIncreasingPath;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("intPractice", family);
+    reachable = Fixtures.operation(operations, "reachable");
+    max = Fixtures.operation(operations, "max");
+    hasStrictlyIncreasingPath = Fixtures.operation(operations, "hasStrictlyIncreasingPath");
+  }
+
+  @Benchmark
+  public void reachable(Blackhole blackhole) {
+    blackhole.consume(reachable.getAsInt());
+  }
+
+  @Benchmark
+  public void max(Blackhole blackhole) {
+    blackhole.consume(max.getAsInt());
+  }
+
+  @Benchmark
+  public void hasStrictlyIncreasingPath(Blackhole blackhole) {
+    blackhole.consume(hasStrictlyIncreasingPath.getAsInt());
+  }
+}
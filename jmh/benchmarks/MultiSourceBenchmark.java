@@ -0,0 +1,56 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reachable queries from a batch of sources, one source at a time against one batched call. One
+ * operation answers the whole batch, so queries per second are the reported ops/s times the batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiSourceBenchmark {
+  @Param({"sparse", "powerLaw"})
+  public String family;
+
+  @Param({"1", "16", "64", "256"})
+  public int batch;
+
+  private IntSupplier each;
+  private IntSupplier batched;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("multiSource", family, batch);
+    each = Fixtures.operation(operations, "each");
+    batched = Fixtures.operation(operations, "batched");
+  }
+
+  @Benchmark
+  public void each(Blackhole blackhole) {
+    blackhole.consume(each.getAsInt());
+  }
+
+  @Benchmark
+  public void batched(Blackhole blackhole) {
+    blackhole.consume(batched.getAsInt());
+  }
+}
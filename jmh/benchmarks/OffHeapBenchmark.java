@@ -0,0 +1,54 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full traversals of a one-million-vertex sparse graph kept as Vertex objects against the same
+ * graph copied off the heap. Run with -prof gc to compare the collections each causes; the fixture
+ * prints the heap each model keeps live.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapBenchmark {
+  @Param({"vertex", "offHeap"})
+  public String model;
+
+  private IntSupplier reachable;
+  private IntSupplier max;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("offHeap", model);
+    reachable = Fixtures.operation(operations, "reachable");
+    max = Fixtures.operation(operations, "max");
+  }
+
+  @Benchmark
+  public void reachable(Blackhole blackhole) {
+    blackhole.consume(reachable.getAsInt());
+  }
+
+  @Benchmark
+  public void max(Blackhole blackhole) {
+    blackhole.consume(max.getAsInt());
+  }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Every Practice operation from the root of each generated graph family, for a Practice that
+ * tracks visited vertices with a HashSet, with a frozen VertexIndex, or with TraversalMetrics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PracticeBenchmark {
+  @Param({"chain", "sparse", "powerLaw", "clique", "cyclic"})
+  public String family;
+
+  @Param({"hashed", "indexed", "metered"})
+  public String model;
+
+  private IntSupplier printVertexVals;
+  private IntSupplier printVertexValsBuffered;
+  private IntSupplier reachable;
+  private IntSupplier max;
+  private IntSupplier leaves;
+  private IntSupplier hasStrictlyIncreasingPath;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("practice", family, model);
+    printVertexVals = Fixtures.operation(operations, "printVertexVals");
+    printVertexValsBuffered = Fixtures.operation(operations, "printVertexValsBuffered");
+    reachable = Fixtures.operation(operations, "reachable");
+    max = Fixtures.operation(operations, "max");
+    leaves = Fixtures.operation(operations, "leaves");
+    hasStrictlyIncreasingPath = Fixtures.operation(operations, "hasStrictlyIncreasingPath");
+  }
+
+  @Benchmark
+  public void printVertexVals(Blackhole blackhole) {
+    blackhole.consume(printVertexVals.getAsInt());
+  }
+
+  @Benchmark
+  public void printVertexValsBuffered(Blackhole blackhole) {
+    blackhole.consume(printVertexValsBuffered.getAsInt());
+  }
+
+  @Benchmark
+  public void reachable(Blackhole blackhole) {
+    blackhole.consume(reachable.getAsInt());
+  }
+
+  @Benchmark
+  public void max(Blackhole blackhole) {
+    blackhole.consume(max.getAsInt());
+  }
+
+  @Benchmark
+  public void leaves(Blackhole blackhole) {
+    blackhole.consume(leaves.getAsInt());
+  }
+
+  @Benchmark
+  public void hasStrictlyIncreasingPath(Blackhole blackhole) {
+    blackhole.consume(hasStrictlyIncreasingPath.getAsInt());
+  }
+}
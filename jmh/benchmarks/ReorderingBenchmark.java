@@ -0,0 +1,66 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full traversals of a one-million-vertex CSR graph whose ids were shuffled at random, as
+ * shuffled and after each ReorderedGraph ordering, and the cost of building each ordering. The
+ * traversals report ops/s and the reordering milliseconds per build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReorderingBenchmark {
+  @Param({"sparse", "powerLaw"})
+  public String family;
+
+  @Param({"random", "BFS", "REVERSE_CUTHILL_MCKEE", "DEGREE_SORTED"})
+  public String ordering;
+
+  private IntSupplier reachable;
+  private IntSupplier max;
+  private IntSupplier reorder;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("reordering", family, ordering);
+    reachable = Fixtures.operation(operations, "reachable");
+    max = Fixtures.operation(operations, "max");
+    reorder = Fixtures.operation(operations, "reorder");
+  }
+
+  @Benchmark
+  public void reachable(Blackhole blackhole) {
+    blackhole.consume(reachable.getAsInt());
+  }
+
+  @Benchmark
+  public void max(Blackhole blackhole) {
+    blackhole.consume(max.getAsInt());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void reorder(Blackhole blackhole) {
+    blackhole.consume(reorder.getAsInt());
+  }
+}
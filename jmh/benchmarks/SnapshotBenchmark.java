@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reader throughput while one writer keeps editing the graph. Readers of a SnapshotGraph traverse
+ * the latest published snapshot without locking; the locked group guards one mutable graph with a
+ * read-write lock that the writer takes for every batch. The writer publishes one batch of edge
+ * moves per millisecond, and its score is the batches it managed per second. Readers default to
+ * two threads; change the split with -tg, for example -tg 4,1.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+  @Param({"sparse", "powerLaw"})
+  public String family;
+
+  private IntSupplier readSnapshot;
+  private IntSupplier writeSnapshot;
+  private IntSupplier readLocked;
+  private IntSupplier writeLocked;
+
+  @Setup
+  public void setUp() {
+    Map<String, IntSupplier> operations = Fixtures.load("snapshots", family);
+    readSnapshot = Fixtures.operation(operations, "readSnapshot");
+    writeSnapshot = Fixtures.operation(operations, "writeSnapshot");
+    readLocked = Fixtures.operation(operations, "readLocked");
+    writeLocked = Fixtures.operation(operations, "writeLocked");
+  }
+
+  @Benchmark
+  @Group("snapshot")
+  @GroupThreads(2)
+  public void snapshotReader(Blackhole blackhole) {
+    blackhole.consume(readSnapshot.getAsInt());
+  }
+
+  @Benchmark
+  @Group("snapshot")
+  @GroupThreads(1)
+  public void snapshotWriter(Blackhole blackhole) {
+    blackhole.consume(writeSnapshot.getAsInt());
+    LockSupport.parkNanos(WRITE_INTERVAL_NANOS);
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(2)
+  public void lockedReader(Blackhole blackhole) {
+    blackhole.consume(readLocked.getAsInt());
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public void lockedWriter(Blackhole blackhole) {
+    blackhole.consume(writeLocked.getAsInt());
+    LockSupport.parkNanos(WRITE_INTERVAL_NANOS);
+  }
+
+  private static final long WRITE_INTERVAL_NANOS = 1_000_000L;
+}
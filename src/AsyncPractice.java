@@ -0,0 +1,215 @@
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs Practice queries asynchronously, one task per query, and returns each answer as a
+ * CompletableFuture.
+ *
+ * By default every query runs on its own virtual thread, so thousands of concurrent queries cost
+ * thousands of small heap objects rather than thousands of platform threads. Virtual threads are
+ * looked up reflectively; on a JVM without them the queries run on a cached pool of daemon platform
+ * threads instead, and usesVirtualThreads() reports which one is in use.
+ *
+ * A query stops early when its future is cancelled or its deadline passes: the thread running it
+ * is interrupted, and the traversal notices at its next cooperative check (see TraversalEngine)
+ * and gives up. A timed-out future completes with a TimeoutException. Only the future returned
+ * here can cancel the query; cancelling a stage derived from it does not reach the traversal.
+ *
+ * The Practice must be safe to share between threads, as the default Practice() is.
+ */
+public final class AsyncPractice implements AutoCloseable {
+  private final Practice practice;
+  private final ExecutorService executor;
+  private final boolean ownsExecutor;
+  private final boolean virtual;
+
+  /**
+   * Creates a facade over a new Practice() that runs each query on its own virtual thread when the
+   * JVM supports them, and on a cached pool of daemon platform threads otherwise.
+   */
+  public AsyncPractice() {
+    this(new Practice());
+  }
+
+  /**
+   * Creates a facade over the given Practice that runs each query on its own virtual thread when
+   * the JVM supports them, and on a cached pool of daemon platform threads otherwise.
+   *
+   * @param practice The Practice that answers the queries; it must be safe to share between threads.
+   * @throws NullPointerException if practice is null.
+   */
+  public AsyncPractice(Practice practice) {
+    if(practice == null){
+      throw new NullPointerException("Practice cannot be null.");
+    }
+    ExecutorService virtualExecutor = virtualThreadExecutor();
+    this.practice = practice;
+    this.executor = virtualExecutor != null ? virtualExecutor : Executors.newCachedThreadPool(daemonThreads());
+    this.ownsExecutor = true;
+    this.virtual = virtualExecutor != null;
+  }
+
+  /**
+   * Creates a facade over the given Practice that runs queries on the given executor. The executor
+   * is not shut down by close().
+   *
+   * @param practice The Practice that answers the queries; it must be safe to share between threads.
+   * @param executor The executor that runs the queries.
+   * @throws NullPointerException if practice or executor is null.
+   */
+  public AsyncPractice(Practice practice, ExecutorService executor) {
+    if(practice == null || executor == null){
+      throw new NullPointerException("Practice or executor cannot be null.");
+    }
+    this.practice = practice;
+    this.executor = executor;
+    this.ownsExecutor = false;
+    this.virtual = false;
+  }
+
+  /**
+   * @return True if queries run on virtual threads.
+   */
+  public boolean usesVirtualThreads() {
+    return virtual;
+  }
+
+  /**
+   * Computes Practice.reachable(vertex) asynchronously.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return A future of the set of reachable vertices.
+   */
+  public <T> CompletableFuture<Set<Vertex<T>>> reachable(Vertex<T> vertex) {
+    return submit(() -> practice.reachable(vertex), null);
+  }
+
+  /**
+   * Computes Practice.reachable(vertex) asynchronously, giving up once the deadline has passed.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param deadline How long the query may take, measured from this call.
+   * @return A future of the set of reachable vertices.
+   * @throws NullPointerException if deadline is null.
+   */
+  public <T> CompletableFuture<Set<Vertex<T>>> reachable(Vertex<T> vertex, Duration deadline) {
+    return submit(() -> practice.reachable(vertex), requireDeadline(deadline));
+  }
+
+  /**
+   * Computes Practice.max(vertex) asynchronously.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return A future of the maximum reachable value.
+   */
+  public CompletableFuture<Integer> max(Vertex<Integer> vertex) {
+    return submit(() -> practice.max(vertex), null);
+  }
+
+  /**
+   * Computes Practice.max(vertex) asynchronously, giving up once the deadline has passed.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param deadline How long the query may take, measured from this call.
+   * @return A future of the maximum reachable value.
+   * @throws NullPointerException if deadline is null.
+   */
+  public CompletableFuture<Integer> max(Vertex<Integer> vertex, Duration deadline) {
+    return submit(() -> practice.max(vertex), requireDeadline(deadline));
+  }
+
+  /**
+   * Computes Practice.hasStrictlyIncreasingPath(start, end) asynchronously. A null start or end
+   * completes the future exceptionally with a NullPointerException.
+   *
+   * @param start The starting vertex.
+   * @param end The target vertex.
+   * @return A future of whether a strictly increasing path exists.
+   */
+  public CompletableFuture<Boolean> hasStrictlyIncreasingPath(Vertex<Integer> start, Vertex<Integer> end) {
+    return submit(() -> practice.hasStrictlyIncreasingPath(start, end), null);
+  }
+
+  /**
+   * Computes Practice.hasStrictlyIncreasingPath(start, end) asynchronously, giving up once the
+   * deadline has passed.
+   *
+   * @param start The starting vertex.
+   * @param end The target vertex.
+   * @param deadline How long the query may take, measured from this call.
+   * @return A future of whether a strictly increasing path exists.
+   * @throws NullPointerException if deadline is null.
+   */
+  public CompletableFuture<Boolean> hasStrictlyIncreasingPath(Vertex<Integer> start, Vertex<Integer> end,
+                                                              Duration deadline) {
+    return submit(() -> practice.hasStrictlyIncreasingPath(start, end), requireDeadline(deadline));
+  }
+
+  /**
+   * Shuts down the executor this facade created, interrupting any query still running. An executor
+   * passed to the constructor is left alone.
+   */
+  @Override
+  public void close() {
+    if(ownsExecutor) executor.shutdownNow();
+  }
+
+  private <R> CompletableFuture<R> submit(Supplier<R> query, Duration deadline) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    Future<?> task = executor.submit(() -> {
+      if(result.isDone()) return;
+      try {
+        result.complete(query.get());
+      } catch(Throwable t){
+        result.completeExceptionally(t);
+      }
+    });
+    // Interrupt the traversal once no one is waiting for it any more.
+    result.whenComplete((value, failure) -> {
+      if(result.isCancelled() || failure instanceof TimeoutException || failure instanceof CancellationException){
+        task.cancel(true);
+      }
+    });
+    if(deadline != null) result.orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    return result;
+  }
+
+  private static Duration requireDeadline(Duration deadline) {
+    if(deadline == null){
+      throw new NullPointerException("Deadline cannot be null.");
+    }
+    return deadline;
+  }
+
+  /**
+   * Returns Executors.newVirtualThreadPerTaskExecutor() on JVMs that have it, or null.
+   */
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch(ReflectiveOperationException | UnsupportedOperationException e){
+      return null;
+    }
+  }
+
+  private static ThreadFactory daemonThreads() {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "practice-query-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,191 @@
+import java.util.Arrays;
+
+/**
+ * Answers strictly-increasing-path queries by searching forward from the start and backward from
+ * the end at the same time, until the two searches meet.
+ *
+ * Every vertex on a strictly increasing path from start to end holds a value strictly between the
+ * two endpoint values, so both searches are bounded by them: the forward search never enters a
+ * vertex whose value is not below end's value, and the backward search, which walks edges in
+ * reverse toward smaller values, never enters one whose value is not above start's. Each step
+ * expands a whole breadth-first level of whichever search has the smaller frontier, and a query
+ * ends as soon as one search reaches a vertex marked by the other. Negative answers end when either
+ * side runs out of vertices, which on large graphs usually happens long before a one-sided search
+ * would have exhausted its region.
+ *
+ * The search freezes the graph reachable from a root and keeps only its increasing edges, forward
+ * and reversed. Queries involving vertices added afterwards are answered by Practice's depth-first
+ * search instead. Queries share reusable marks, so a search must not be queried by more than one
+ * thread at a time.
+ */
+public final class BidirectionalPathSearch {
+  private final VertexIndex<Integer> vertices;
+  private final int[] values;
+  private final int[] offsets;
+  private final int[] targets;
+  private final int[] reverseOffsets;
+  private final int[] reverseTargets;
+  private final int[] forwardStamps;
+  private final int[] backwardStamps;
+  private final int[] forwardQueue;
+  private final int[] backwardQueue;
+  private int epoch;
+  private int lastVisited;
+
+  private BidirectionalPathSearch(Vertex<Integer> root) {
+    vertices = VertexIndex.freeze(root);
+    CsrGraph<Integer> graph = CsrGraph.ofInts(vertices);
+    int n = graph.vertexCount();
+
+    values = new int[n];
+    for(int v = 0; v < n; v++){
+      values[v] = graph.intValue(v);
+    }
+
+    // Keep only the increasing edges; no strictly increasing path uses any other.
+    int[] graphOffsets = graph.offsets();
+    int[] graphTargets = graph.targets();
+    offsets = new int[n + 1];
+    int[] kept = new int[graphTargets.length];
+    int edges = 0;
+    reverseOffsets = new int[n + 1];
+    for(int v = 0; v < n; v++){
+      for(int edge = graphOffsets[v]; edge < graphOffsets[v + 1]; edge++){
+        int w = graphTargets[edge];
+        if(values[w] > values[v]){
+          kept[edges++] = w;
+          reverseOffsets[w + 1]++;
+        }
+      }
+      offsets[v + 1] = edges;
+    }
+    targets = Arrays.copyOf(kept, edges);
+
+    for(int v = 0; v < n; v++){
+      reverseOffsets[v + 1] += reverseOffsets[v];
+    }
+    int[] next = Arrays.copyOf(reverseOffsets, n);
+    reverseTargets = new int[edges];
+    for(int v = 0; v < n; v++){
+      for(int edge = offsets[v]; edge < offsets[v + 1]; edge++){
+        reverseTargets[next[targets[edge]]++] = v;
+      }
+    }
+
+    forwardStamps = new int[n];
+    backwardStamps = new int[n];
+    forwardQueue = new int[n];
+    backwardQueue = new int[n];
+  }
+
+  /**
+   * Builds a search over every vertex reachable from the given root.
+   *
+   * @param root The vertex to index from.
+   * @return The search.
+   * @throws NullPointerException if root is null or any reachable vertex holds a null value.
+   */
+  public static BidirectionalPathSearch build(Vertex<Integer> root) {
+    if(root == null){
+      throw new NullPointerException("Root cannot be null.");
+    }
+    return new BidirectionalPathSearch(root);
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path from the given start vertex to the
+   * target vertex, with the same semantics as Practice.hasStrictlyIncreasingPath.
+   *
+   * @param start The starting vertex.
+   * @param end The target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws NullPointerException if either start or end is null.
+   */
+  public boolean hasStrictlyIncreasingPath(Vertex<Integer> start, Vertex<Integer> end) {
+    if(start == null|| end == null){
+      throw new NullPointerException("Start or end cannot be null.");
+    }
+    int s = vertices.idOf(start);
+    int e = vertices.idOf(end);
+    if(s < 0 || e < 0){
+      lastVisited = -1;
+      return new Practice().hasStrictlyIncreasingPath(start, end);
+    }
+    return search(s, e);
+  }
+
+  /**
+   * @return The number of indexed vertices.
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Reports how much of the graph the most recent query explored, counting each vertex once per
+   * search that reached it.
+   *
+   * @return The number of vertices marked by the last query, or -1 if it fell back to Practice.
+   */
+  public int lastVisited() {
+    return lastVisited;
+  }
+
+  private boolean search(int s, int e) {
+    lastVisited = 0;
+    if(s == e) return true;
+    int low = values[s];
+    int high = values[e];
+    if(high <= low) return false;
+
+    if(++epoch == 0){
+      Arrays.fill(forwardStamps, 0);
+      Arrays.fill(backwardStamps, 0);
+      epoch = 1;
+    }
+    forwardStamps[s] = epoch;
+    backwardStamps[e] = epoch;
+    forwardQueue[0] = s;
+    backwardQueue[0] = e;
+    int forwardHead = 0;
+    int forwardTail = 1;
+    int backwardHead = 0;
+    int backwardTail = 1;
+    int visited = 2;
+
+    try {
+      while(forwardHead < forwardTail && backwardHead < backwardTail){
+        if(forwardTail - forwardHead <= backwardTail - backwardHead){
+          for(int level = forwardTail; forwardHead < level; forwardHead++){
+            int v = forwardQueue[forwardHead];
+            for(int edge = offsets[v], end = offsets[v + 1]; edge < end; edge++){
+              int w = targets[edge];
+              if(forwardStamps[w] == epoch) continue;
+              if(backwardStamps[w] == epoch) return true;
+              if(values[w] >= high) continue;
+              forwardStamps[w] = epoch;
+              forwardQueue[forwardTail++] = w;
+              visited++;
+            }
+          }
+        } else {
+          for(int level = backwardTail; backwardHead < level; backwardHead++){
+            int v = backwardQueue[backwardHead];
+            for(int edge = reverseOffsets[v], end = reverseOffsets[v + 1]; edge < end; edge++){
+              int w = reverseTargets[edge];
+              if(backwardStamps[w] == epoch) continue;
+              if(forwardStamps[w] == epoch) return true;
+              if(values[w] <= low) continue;
+              backwardStamps[w] = epoch;
+              backwardQueue[backwardTail++] = w;
+              visited++;
+            }
+          }
+        }
+      }
+      return false;
+    } finally {
+      lastVisited = visited;
+    }
+  }
+}
@@ -0,0 +1,403 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A read-only graph of int values stored in a binary file and read through memory-mapped buffers,
+ * or copied into direct buffers outside the Java heap.
+ *
+ * The file holds the same compressed sparse row layout as CsrGraph, so opening one costs a few
+ * mmap calls instead of rebuilding a Vertex object per line of text, and traversals read vertices
+ * and edges straight from the page cache without creating any per-vertex Java objects. A graph
+ * made by offHeap keeps the same three sections in direct memory instead, so however large it is
+ * the garbage collector sees only a handful of buffer objects; OffHeapTraversal queries such a graph
+ * without moving its visited state onto the heap either.
+ *
+ * File layout, every field a little-endian 32-bit int:
+ * <pre>
+ *   header   magic "DFSG", version, vertexCount, edgeCount, 4 reserved ints (32 bytes)
+ *   offsets  vertexCount + 1 entries
+ *   targets  edgeCount entries
+ *   values   vertexCount entries
+ * </pre>
+ * As in CsrGraph, the neighbors of vertex v are targets[offsets[v]] .. targets[offsets[v + 1] - 1],
+ * and a graph written from a Vertex root gives that root id 0.
+ *
+ * Each section is mapped separately, so a section must stay under 2 GB (about 536 million
+ * entries). The mapping stays valid after open returns and is released when the BinaryGraph is
+ * garbage collected. Opening a file checks its header and size but not the edges themselves; a
+ * corrupt target surfaces as an IndexOutOfBoundsException during traversal.
+ *
+ * A BinaryGraph may be traversed from several threads at once. Each traversal borrows the graph's
+ * stack and visited bits, allocated on first use, and clears only the bits it set before handing
+ * them back; a traversal that finds them already borrowed allocates its own.
+ */
+public final class BinaryGraph {
+  static final int MAGIC = 'D' | 'F' << 8 | 'S' << 16 | 'G' << 24;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 32;
+
+  private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+  private final int vertexCount;
+  private final int edgeCount;
+  private final IntBuffer offsets;
+  private final IntBuffer targets;
+  private final IntBuffer values;
+  private final AtomicReference<Scratch> scratch = new AtomicReference<>();
+
+  private BinaryGraph(int vertexCount, int edgeCount, IntBuffer offsets, IntBuffer targets, IntBuffer values) {
+    this.vertexCount = vertexCount;
+    this.edgeCount = edgeCount;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.values = values;
+  }
+
+  /**
+   * Writes every vertex reachable from the given root to a binary graph file, replacing any
+   * existing file.
+   *
+   * @param root The vertex that becomes id 0.
+   * @param path The file to write.
+   * @throws IOException if the file cannot be written.
+   * @throws NullPointerException if root or path is null, or any reachable vertex holds a null value.
+   */
+  public static void write(Vertex<Integer> root, Path path) throws IOException {
+    write(CsrGraph.ofInts(root), path);
+  }
+
+  /**
+   * Writes every vertex reachable from the given root to a binary graph file, converting each
+   * value to an int with the given encoder.
+   *
+   * @param root The vertex that becomes id 0.
+   * @param encoder Maps a vertex value to the int stored in the file.
+   * @param path The file to write.
+   * @throws IOException if the file cannot be written.
+   * @throws NullPointerException if root, encoder or path is null.
+   */
+  public static <T> void write(Vertex<T> root, ToIntFunction<? super T> encoder, Path path) throws IOException {
+    if(encoder == null){
+      throw new NullPointerException("Encoder cannot be null.");
+    }
+    CsrGraph<T> graph = CsrGraph.of(root);
+    write(graph, vertex -> encoder.applyAsInt(graph.value(vertex)), path);
+  }
+
+  /**
+   * Writes a CSR graph of Integer values to a binary graph file, keeping its ids.
+   *
+   * @param graph The graph to write.
+   * @param path The file to write.
+   * @throws IOException if the file cannot be written.
+   * @throws NullPointerException if graph or path is null.
+   */
+  public static void write(CsrGraph<Integer> graph, Path path) throws IOException {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    write(graph, graph::intValue, path);
+  }
+
+  private static void write(CsrGraph<?> graph, IntUnaryOperator values, Path path) throws IOException {
+    if(path == null){
+      throw new NullPointerException("Path cannot be null.");
+    }
+    int n = graph.vertexCount();
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)){
+      ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(graph.edgeCount());
+      buffer.position(HEADER_BYTES);
+      for(int offset : graph.offsets()){
+        put(channel, buffer, offset);
+      }
+      for(int target : graph.targets()){
+        put(channel, buffer, target);
+      }
+      for(int vertex = 0; vertex < n; vertex++){
+        put(channel, buffer, values.applyAsInt(vertex));
+      }
+      drain(channel, buffer);
+    }
+  }
+  private static void put(FileChannel channel, ByteBuffer buffer, int value) throws IOException {
+    if(!buffer.hasRemaining()) drain(channel, buffer);
+    buffer.putInt(value);
+  }
+  private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while(buffer.hasRemaining()){
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Opens a binary graph file by mapping it into memory. No vertex or edge is read until a
+   * traversal touches it.
+   *
+   * @param path The file to open.
+   * @return The mapped graph.
+   * @throws IOException if the file cannot be read or is not a binary graph file of this version.
+   * @throws NullPointerException if path is null.
+   */
+  public static BinaryGraph open(Path path) throws IOException {
+    if(path == null){
+      throw new NullPointerException("Path cannot be null.");
+    }
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+      long size = channel.size();
+      if(size < HEADER_BYTES){
+        throw new IOException("Not a binary graph file: " + path);
+      }
+      ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      if(header.getInt(0) != MAGIC){
+        throw new IOException("Not a binary graph file: " + path);
+      }
+      if(header.getInt(4) != VERSION){
+        throw new IOException("Unsupported binary graph version " + header.getInt(4) + ": " + path);
+      }
+      int n = header.getInt(8);
+      int m = header.getInt(12);
+      if(n < 0 || m < 0 || size != HEADER_BYTES + 4L * (2L * n + 1 + m)){
+        throw new IOException("Truncated or corrupt binary graph file: " + path);
+      }
+
+      long position = HEADER_BYTES;
+      IntBuffer offsets = map(channel, position, n + 1);
+      position += 4L * (n + 1);
+      IntBuffer targets = map(channel, position, m);
+      position += 4L * m;
+      IntBuffer values = map(channel, position, n);
+      return new BinaryGraph(n, m, offsets, targets, values);
+    }
+  }
+  private static IntBuffer map(FileChannel channel, long position, int entries) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, position, 4L * entries).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+  }
+
+  /**
+   * Copies every vertex reachable from the given root into direct memory, with the ids
+   * CsrGraph.ofInts(root) would assign. The on-heap copy made on the way is dropped before this
+   * method returns.
+   *
+   * @param root The vertex that becomes id 0.
+   * @return The off-heap graph.
+   * @throws NullPointerException if root is null or any reachable vertex holds a null value.
+   */
+  public static BinaryGraph offHeap(Vertex<Integer> root) {
+    return offHeap(CsrGraph.ofInts(root));
+  }
+
+  /**
+   * Copies a CSR graph of Integer values into direct memory, keeping its ids. Direct memory is
+   * limited by -XX:MaxDirectMemorySize and released when the BinaryGraph is garbage collected.
+   *
+   * @param graph The graph to copy.
+   * @return The off-heap graph.
+   * @throws NullPointerException if graph is null.
+   * @throws IllegalArgumentException if a section would not fit in one 2 GB direct buffer.
+   */
+  public static BinaryGraph offHeap(CsrGraph<Integer> graph) {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    int n = graph.vertexCount();
+    IntBuffer offsets = direct(n + 1).put(graph.offsets());
+    IntBuffer targets = direct(graph.edgeCount()).put(graph.targets());
+    IntBuffer values = direct(n);
+    for(int vertex = 0; vertex < n; vertex++){
+      values.put(vertex, graph.intValue(vertex));
+    }
+    return new BinaryGraph(n, graph.edgeCount(), offsets.clear(), targets.clear(), values);
+  }
+
+  /**
+   * Allocates a direct buffer of the given number of ints in native byte order.
+   *
+   * @throws IllegalArgumentException if entries is negative or the buffer would exceed 2 GB.
+   */
+  static IntBuffer direct(int entries) {
+    if(entries < 0 || entries > Integer.MAX_VALUE / 4){
+      throw new IllegalArgumentException("Cannot allocate a direct buffer of " + entries + " ints; at most "
+          + Integer.MAX_VALUE / 4 + " fit in one buffer.");
+    }
+    return ByteBuffer.allocateDirect(4 * entries).order(ByteOrder.nativeOrder()).asIntBuffer();
+  }
+
+  /**
+   * @return The number of vertices in the graph.
+   */
+  public int vertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * @return The number of edges in the graph, counting self-loops and repeated edges.
+   */
+  public int edgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @return The number of outgoing edges of the vertex.
+   */
+  public int degree(int vertex) {
+    checkVertex(vertex);
+    return offsets.get(vertex + 1) - offsets.get(vertex);
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @param index The position of the neighbor, from 0 to degree(vertex) - 1.
+   * @return The id of the index-th neighbor of the vertex.
+   */
+  public int neighbor(int vertex, int index) {
+    if(index < 0 || index >= degree(vertex)){
+      throw new IndexOutOfBoundsException("Neighbor index " + index + " out of range for vertex " + vertex);
+    }
+    return targets.get(offsets.get(vertex) + index);
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @return The int value held by the vertex.
+   */
+  public int intValue(int vertex) {
+    checkVertex(vertex);
+    return values.get(vertex);
+  }
+
+  /**
+   * Visits every vertex reachable from the start vertex that is not already set in the visited
+   * bits, with the same order and semantics as CsrGraph.traverse.
+   *
+   * @param start The id to start from.
+   * @param visited The ids already reached; updated as the traversal proceeds.
+   * @param visitor The callback that receives each reached id.
+   * @return True if the traversal ran to completion, false if the visitor stopped it early.
+   */
+  public boolean traverse(int start, BitSet visited, CsrGraph.Visitor visitor) {
+    checkVertex(start);
+    Scratch borrowed = borrow();
+    try {
+      return traverse(start, visited, visitor, borrowed.stack, null);
+    } finally {
+      scratch.set(borrowed);
+    }
+  }
+
+  /**
+   * Visits every vertex reachable from the start vertex, as traverse(int, BitSet, Visitor) does
+   * with an empty visited set, but marks vertices in the graph's reusable visited bits instead of
+   * a new set, for traversal code in this package.
+   */
+  boolean traverse(int start, CsrGraph.Visitor visitor) {
+    checkVertex(start);
+    Scratch borrowed = borrow();
+    try {
+      return traverse(start, borrowed.visited, visitor, borrowed.stack, borrowed);
+    } finally {
+      for(int i = 0; i < borrowed.reached; i++){
+        borrowed.visited.clear(borrowed.order[i]);
+      }
+      borrowed.reached = 0;
+      scratch.set(borrowed);
+    }
+  }
+  private boolean traverse(int start, BitSet visited, CsrGraph.Visitor visitor, int[] stack, Scratch record) {
+    if(visited.get(start)) return true;
+    visited.set(start);
+    if(record != null) record.order[record.reached++] = start;
+    if(!visitor.visit(start)) return false;
+
+    int size = 0;
+    stack[size++] = start;
+    while(size > 0){
+      int current = stack[--size];
+      for(int edge = offsets.get(current), end = offsets.get(current + 1); edge < end; edge++){
+        int neighbor = targets.get(edge);
+        if(visited.get(neighbor) || !visitor.follow(current, neighbor)) continue;
+        visited.set(neighbor);
+        if(record != null) record.order[record.reached++] = neighbor;
+        if(!visitor.visit(neighbor)) return false;
+        stack[size++] = neighbor;
+      }
+    }
+    return true;
+  }
+  private Scratch borrow() {
+    Scratch borrowed = scratch.getAndSet(null);
+    return borrowed != null ? borrowed : new Scratch(vertexCount);
+  }
+
+  /**
+   * Reads offsets[vertex] without a range check, for traversal code in this package.
+   */
+  int offset(int vertex) {
+    return offsets.get(vertex);
+  }
+
+  /**
+   * Reads targets[edge] without a range check, for traversal code in this package.
+   */
+  int target(int edge) {
+    return targets.get(edge);
+  }
+
+  /**
+   * Reads values[vertex] without a range check, for traversal code in this package.
+   */
+  int value(int vertex) {
+    return values.get(vertex);
+  }
+
+  /**
+   * Copies the graph onto the heap.
+   *
+   * @return A CSR graph with the same ids, edges and values.
+   */
+  public CsrGraph<Integer> toCsrGraph() {
+    int[] offsetArray = new int[vertexCount + 1];
+    int[] targetArray = new int[edgeCount];
+    int[] valueArray = new int[vertexCount];
+    offsets.get(0, offsetArray);
+    targets.get(0, targetArray);
+    values.get(0, valueArray);
+    return CsrGraph.ofArrays(offsetArray, targetArray, valueArray);
+  }
+
+  /**
+   * The per-traversal state of a BinaryGraph: a depth-first stack, the visited bits, and the ids
+   * whose bits are set, in the order they were reached.
+   */
+  private static final class Scratch {
+    final int[] stack;
+    final BitSet visited;
+    final int[] order;
+    int reached;
+
+    Scratch(int vertexCount) {
+      this.stack = new int[vertexCount];
+      this.visited = new BitSet(vertexCount);
+      this.order = new int[vertexCount];
+    }
+  }
+
+  private void checkVertex(int vertex) {
+    if(vertex < 0 || vertex >= vertexCount){
+      throw new IndexOutOfBoundsException("Vertex id " + vertex + " out of range for graph of " + vertexCount + " vertices");
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/**
+ * The answer of a traversal run under a TraversalLimit, together with whether the limit cut the
+ * traversal short. A truncated answer covers only the vertices the traversal reached.
+ *
+ * @param <R> The type of the answer.
+ */
+public final class BoundedResult<R> {
+  private final R value;
+  private final boolean truncated;
+
+  BoundedResult(R value, boolean truncated) {
+    this.value = value;
+    this.truncated = truncated;
+  }
+
+  /**
+   * @return The answer over the vertices the traversal reached.
+   */
+  public R value() {
+    return value;
+  }
+
+  /**
+   * @return True if a limit kept the traversal from reaching at least one more vertex.
+   */
+  public boolean truncated() {
+    return truncated;
+  }
+
+  @Override
+  public String toString() {
+    return "BoundedResult[value=" + value + ", truncated=" + truncated + "]";
+  }
+}
@@ -0,0 +1,162 @@
+import java.util.BitSet;
+
+/**
+ * Level-synchronous breadth-first traversals over a CsrGraph, including the direction-optimizing
+ * variant of Beamer, Asanovic and Patterson.
+ *
+ * A top-down step scans every out-edge of every frontier vertex. A bottom-up step instead scans the
+ * in-edges of every unvisited vertex and stops at the first parent found in the frontier. Once the
+ * frontier covers a large share of the remaining edges the bottom-up step inspects far fewer edges,
+ * so the direction-optimizing traversal switches to it, and switches back once the frontier shrinks.
+ *
+ * The reverse adjacency needed for bottom-up steps is built once, when the traversal is created.
+ * A traversal records how many edges its last run inspected; it is therefore not thread-safe.
+ */
+public final class BreadthFirstTraversal {
+  /** Go bottom-up once the frontier's out-edges exceed the unexplored edges divided by this. */
+  private static final int ALPHA = 14;
+  /** Go back top-down once the frontier holds fewer than the vertex count divided by this. */
+  private static final int BETA = 24;
+
+  private final CsrGraph<?> forward;
+  private final CsrGraph<?> reverse;
+  private long edgesInspected;
+
+  /**
+   * Creates a traversal over the given graph, building its reverse adjacency.
+   *
+   * @param graph The graph to traverse.
+   * @throws NullPointerException if graph is null.
+   */
+  public BreadthFirstTraversal(CsrGraph<?> graph) {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    this.forward = graph;
+    this.reverse = graph.transpose();
+  }
+
+  /**
+   * @return The graph this traversal runs on.
+   */
+  public CsrGraph<?> graph() {
+    return forward;
+  }
+
+  /**
+   * @return The number of edges inspected by the most recent traversal.
+   */
+  public long edgesInspected() {
+    return edgesInspected;
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from the source, expanding every level top-down.
+   *
+   * @param source The id of the starting vertex.
+   * @return A bit set with the id of every reachable vertex set.
+   * @throws IndexOutOfBoundsException if source is not a valid id in the graph.
+   */
+  public BitSet topDown(int source) {
+    return run(source, false);
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from the source, choosing top-down or bottom-up
+   * expansion for each level depending on the size of the frontier.
+   *
+   * @param source The id of the starting vertex.
+   * @return A bit set with the id of every reachable vertex set.
+   * @throws IndexOutOfBoundsException if source is not a valid id in the graph.
+   */
+  public BitSet directionOptimizing(int source) {
+    return run(source, true);
+  }
+
+  private BitSet run(int source, boolean optimize) {
+    int n = forward.vertexCount();
+    if(source < 0 || source >= n){
+      throw new IndexOutOfBoundsException("Vertex id " + source + " out of range for graph of " + n + " vertices");
+    }
+    int[] offsets = forward.offsets();
+    int[] targets = forward.targets();
+    int[] reverseOffsets = reverse.offsets();
+    int[] reverseTargets = reverse.targets();
+
+    BitSet visited = new BitSet(n);
+    int[] queue = new int[n];
+    int head = 0;
+    int tail = 0;
+    BitSet frontierBits = null;
+    BitSet nextBits = null;
+    boolean bottomUp = false;
+
+    long edges = 0;
+    long frontierEdges = offsets[source + 1] - offsets[source];
+    long unexploredEdges = forward.edgeCount() - frontierEdges;
+    int frontierSize = 1;
+    visited.set(source);
+    queue[tail++] = source;
+
+    while(frontierSize > 0){
+      if(optimize){
+        if(!bottomUp && frontierEdges > unexploredEdges / ALPHA){
+          bottomUp = true;
+          frontierBits = new BitSet(n);
+          nextBits = new BitSet(n);
+          for(int i = head; i < tail; i++){
+            frontierBits.set(queue[i]);
+          }
+        } else if(bottomUp && frontierSize < n / BETA){
+          bottomUp = false;
+          head = 0;
+          tail = 0;
+          for(int v = frontierBits.nextSetBit(0); v >= 0; v = frontierBits.nextSetBit(v + 1)){
+            queue[tail++] = v;
+          }
+        }
+      }
+
+      int nextSize = 0;
+      long nextEdges = 0;
+      if(bottomUp){
+        nextBits.clear();
+        for(int v = visited.nextClearBit(0); v < n; v = visited.nextClearBit(v + 1)){
+          for(int edge = reverseOffsets[v], end = reverseOffsets[v + 1]; edge < end; edge++){
+            edges++;
+            if(frontierBits.get(reverseTargets[edge])){
+              nextBits.set(v);
+              nextSize++;
+              nextEdges += offsets[v + 1] - offsets[v];
+              break;
+            }
+          }
+        }
+        visited.or(nextBits);
+        BitSet swap = frontierBits;
+        frontierBits = nextBits;
+        nextBits = swap;
+      } else {
+        int levelEnd = tail;
+        for(; head < levelEnd; head++){
+          int u = queue[head];
+          for(int edge = offsets[u], end = offsets[u + 1]; edge < end; edge++){
+            edges++;
+            int v = targets[edge];
+            if(visited.get(v)) continue;
+            visited.set(v);
+            queue[tail++] = v;
+            nextSize++;
+            nextEdges += offsets[v + 1] - offsets[v];
+          }
+        }
+      }
+      frontierSize = nextSize;
+      frontierEdges = nextEdges;
+      unexploredEdges -= nextEdges;
+    }
+
+    edgesInspected = edges;
+    return visited;
+  }
+}
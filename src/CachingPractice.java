@@ -0,0 +1,365 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Answers reachable, max and leaves queries through a Practice and remembers the results, so that
+ * repeated queries from the same root skip the traversal.
+ *
+ * Results are kept per (operation, root) in a least-recently-used map holding at most maxEntries
+ * results. The returned sets are unmodifiable views of sets no one else holds, so a cached result
+ * may be handed to any number of threads.
+ *
+ * Vertex.neighbors is a plain list, so the cache cannot observe edits made to it. Instead the cache
+ * keeps a graph version that addEdge, removeEdge and invalidate increase, dropping every result;
+ * a traversal that was running while the version changed has its result discarded. Code that edits
+ * neighbor lists directly must call invalidate() afterwards, just as DynamicReachability requires
+ * its edits to go through its own addEdge and removeEdge.
+ *
+ * A CachingPractice may be shared between threads if its delegate may be: the default Practice()
+ * may, a Practice bound to a VertexIndex may not. Traversals run outside the cache's lock, so two
+ * threads that miss on the same root at once both traverse, and the later result is kept. They do
+ * hold the read side of a graph lock whose write side addEdge and removeEdge take, so an edit made
+ * through the cache waits for running traversals and never changes a list one of them is reading.
+ * Direct edits to neighbor lists bypass that lock and must not overlap any query.
+ */
+public final class CachingPractice {
+  /** Rough heap cost of one HashSet element: a HashMap.Node plus its share of the table. */
+  private static final long BYTES_PER_ELEMENT = 48;
+  /** Rough heap cost of one entry: the key, the map entry, the result wrapper and an empty set. */
+  private static final long BYTES_PER_ENTRY = 160;
+
+  private enum Operation { REACHABLE, MAX, LEAVES }
+
+  private static final class Key {
+    private final Operation operation;
+    private final Vertex<?> root;
+
+    Key(Operation operation, Vertex<?> root) {
+      this.operation = operation;
+      this.root = root;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if(!(other instanceof Key)) return false;
+      Key key = (Key) other;
+      return operation == key.operation && root == key.root;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * operation.hashCode() + System.identityHashCode(root);
+    }
+  }
+
+  private static final class Entry {
+    private final Object result;
+    private final long bytes;
+
+    Entry(Object result, long bytes) {
+      this.result = result;
+      this.bytes = bytes;
+    }
+  }
+
+  /**
+   * A point-in-time copy of the cache's counters.
+   */
+  public static final class Stats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final int entries;
+    private final long estimatedBytes;
+
+    Stats(long hits, long misses, long evictions, long invalidations, int entries, long estimatedBytes) {
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+      this.invalidations = invalidations;
+      this.entries = entries;
+      this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * @return The number of queries answered from the cache.
+     */
+    public long hits() {
+      return hits;
+    }
+
+    /**
+     * @return The number of queries that ran a traversal.
+     */
+    public long misses() {
+      return misses;
+    }
+
+    /**
+     * @return The number of results dropped to stay within maxEntries.
+     */
+    public long evictions() {
+      return evictions;
+    }
+
+    /**
+     * @return The number of times the graph version was increased.
+     */
+    public long invalidations() {
+      return invalidations;
+    }
+
+    /**
+     * @return The fraction of queries answered from the cache, or 0 if there were none.
+     */
+    public double hitRate() {
+      long total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return The number of results currently held.
+     */
+    public int entries() {
+      return entries;
+    }
+
+    /**
+     * @return A rough estimate of the heap held by the cached results, in bytes.
+     */
+    public long estimatedBytes() {
+      return estimatedBytes;
+    }
+
+    @Override
+    public String toString() {
+      return "Stats[hits=" + hits + ", misses=" + misses + ", hitRate=" + String.format("%.3f", hitRate())
+          + ", evictions=" + evictions + ", invalidations=" + invalidations + ", entries=" + entries
+          + ", estimatedBytes=" + estimatedBytes + "]";
+    }
+  }
+
+  private final Practice practice;
+  private final int maxEntries;
+  private final LinkedHashMap<Key, Entry> entries;
+  private final ReadWriteLock graphLock = new ReentrantReadWriteLock();
+  private long version;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long invalidations;
+  private long estimatedBytes;
+
+  /**
+   * Creates a cache in front of a new Practice().
+   *
+   * @param maxEntries The largest number of results to keep.
+   * @throws IllegalArgumentException if maxEntries is not positive.
+   */
+  public CachingPractice(int maxEntries) {
+    this(new Practice(), maxEntries);
+  }
+
+  /**
+   * Creates a cache in front of the given Practice.
+   *
+   * @param practice The Practice that runs the traversals.
+   * @param maxEntries The largest number of results to keep.
+   * @throws NullPointerException if practice is null.
+   * @throws IllegalArgumentException if maxEntries is not positive.
+   */
+  public CachingPractice(Practice practice, int maxEntries) {
+    if(practice == null){
+      throw new NullPointerException("Practice cannot be null.");
+    }
+    if(maxEntries <= 0){
+      throw new IllegalArgumentException("Max entries must be positive: " + maxEntries);
+    }
+    this.practice = practice;
+    this.maxEntries = maxEntries;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        if(size() <= CachingPractice.this.maxEntries) return false;
+        evictions++;
+        estimatedBytes -= eldest.getValue().bytes;
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Returns the vertices reachable from the given root, as Practice.reachable does, from the cache
+   * when possible.
+   *
+   * If the given vertex is null, an empty set is returned and nothing is cached.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return An unmodifiable set containing all reachable vertices.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Set<Vertex<T>> reachable(Vertex<T> vertex) {
+    if(vertex == null) return Collections.emptySet();
+
+    Key key = new Key(Operation.REACHABLE, vertex);
+    Object cached = lookup(key);
+    if(cached != null) return (Set<Vertex<T>>) cached;
+
+    long computedAt = version();
+    Set<Vertex<T>> result = Collections.unmodifiableSet(traverse(() -> practice.reachable(vertex)));
+    store(key, computedAt, result, BYTES_PER_ENTRY + BYTES_PER_ELEMENT * result.size());
+    return result;
+  }
+
+  /**
+   * Returns the maximum value reachable from the given root, as Practice.max does, from the cache
+   * when possible.
+   *
+   * If the given vertex is null, the method returns Integer.MIN_VALUE and nothing is cached.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return The maximum value of any reachable vertex.
+   */
+  public int max(Vertex<Integer> vertex) {
+    if(vertex == null) return Integer.MIN_VALUE;
+
+    Key key = new Key(Operation.MAX, vertex);
+    Object cached = lookup(key);
+    if(cached != null) return (Integer) cached;
+
+    long computedAt = version();
+    int result = traverse(() -> practice.max(vertex));
+    store(key, computedAt, result, BYTES_PER_ENTRY);
+    return result;
+  }
+
+  /**
+   * Returns the leaves reachable from the given root, as Practice.leaves does, from the cache when
+   * possible.
+   *
+   * If the given vertex is null, an empty set is returned and nothing is cached.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return An unmodifiable set containing all reachable leaf vertices.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Set<Vertex<T>> leaves(Vertex<T> vertex) {
+    if(vertex == null) return Collections.emptySet();
+
+    Key key = new Key(Operation.LEAVES, vertex);
+    Object cached = lookup(key);
+    if(cached != null) return (Set<Vertex<T>>) cached;
+
+    long computedAt = version();
+    Set<Vertex<T>> result = Collections.unmodifiableSet(traverse(() -> practice.leaves(vertex)));
+    store(key, computedAt, result, BYTES_PER_ENTRY + BYTES_PER_ELEMENT * result.size());
+    return result;
+  }
+
+  /**
+   * Adds an edge and invalidates every cached result. Waits for running traversals to finish.
+   *
+   * @param from The source of the edge.
+   * @param to The target of the edge.
+   * @throws NullPointerException if from or to is null.
+   */
+  public <T> void addEdge(Vertex<T> from, Vertex<T> to) {
+    if(from == null || to == null){
+      throw new NullPointerException("From or to cannot be null.");
+    }
+    graphLock.writeLock().lock();
+    try {
+      if(from.neighbors == null) from.neighbors = new ArrayList<>();
+      from.neighbors.add(to);
+      invalidate();
+    } finally {
+      graphLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes one edge, if present, and then invalidates every cached result. Waits for running
+   * traversals to finish.
+   *
+   * @param from The source of the edge.
+   * @param to The target of the edge.
+   * @return True if an edge was removed.
+   * @throws NullPointerException if from or to is null.
+   */
+  public <T> boolean removeEdge(Vertex<T> from, Vertex<T> to) {
+    if(from == null || to == null){
+      throw new NullPointerException("From or to cannot be null.");
+    }
+    graphLock.writeLock().lock();
+    try {
+      if(from.neighbors == null || !from.neighbors.remove(to)) return false;
+      invalidate();
+      return true;
+    } finally {
+      graphLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Increases the graph version, so that no result computed before this call is returned again.
+   * Must be called after editing any neighbor list other than through addEdge and removeEdge.
+   */
+  public synchronized void invalidate() {
+    version++;
+    invalidations++;
+    entries.clear();
+    estimatedBytes = 0;
+  }
+
+  /**
+   * @return The current graph version, starting at 0.
+   */
+  public synchronized long version() {
+    return version;
+  }
+
+  /**
+   * @return A copy of the current counters.
+   */
+  public synchronized Stats stats() {
+    return new Stats(hits, misses, evictions, invalidations, entries.size(), estimatedBytes);
+  }
+
+  // Runs a traversal under the read side of the graph lock, so edits through the cache wait for it.
+  private <R> R traverse(Supplier<R> query) {
+    graphLock.readLock().lock();
+    try {
+      return query.get();
+    } finally {
+      graphLock.readLock().unlock();
+    }
+  }
+
+  private synchronized Object lookup(Key key) {
+    Entry entry = entries.get(key);
+    if(entry == null){
+      misses++;
+      return null;
+    }
+    hits++;
+    return entry.result;
+  }
+
+  /**
+   * Keeps a result unless the graph changed while it was being computed, in which case it may
+   * describe either version and must not be served.
+   */
+  private synchronized void store(Key key, long computedAt, Object result, long bytes) {
+    if(computedAt != version) return;
+    Entry previous = entries.put(key, new Entry(result, bytes));
+    if(previous != null) estimatedBytes -= previous.bytes;
+    estimatedBytes += bytes;
+  }
+}
@@ -0,0 +1,378 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * The strongly connected component (SCC) condensation of the graph reachable from a root.
+ *
+ * Every cycle in a graph lies within a single SCC, so collapsing each SCC to one node yields a DAG
+ * that is usually far smaller than the graph itself. Components are found with an iterative version
+ * of Tarjan's algorithm, which numbers them in reverse topological order: every edge of the condensed
+ * DAG goes from a higher component number to a lower one.
+ *
+ * Each component carries aggregates: its size, whether it is a leaf, and, for Integer-valued graphs,
+ * its maximum value. Queries from a root run over the condensed DAG instead of the graph. The
+ * maximum reachable value is computed for every component in one pass over the DAG, in component
+ * order, the first time max is called. Reachable-set sizes are remembered per queried component.
+ *
+ * The condensation also serves as a leaf index. A leaf has no neighbors, exactly as in
+ * Practice.leaves, so it is always an SCC of its own. The leaves reachable from a root are the leaf
+ * components reachable from the root's component, and the result of each query is remembered per
+ * component: a later query that reaches a component queried before reuses its answer instead of
+ * descending into it again.
+ *
+ * The condensation reflects the graph as it was when it was built. Queries from vertices added
+ * afterwards are answered by Practice's traversal instead. Queries share reusable marks, so a
+ * condensation must not be queried by more than one thread at a time.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class Condensation<T> {
+  private final VertexIndex<T> vertices;
+  private final int[] componentOf;
+  private final int[] memberOffsets;
+  private final int[] members;
+  private final int[] dagOffsets;
+  private final int[] dagTargets;
+  private final boolean[] leaf;
+  private final Set<Vertex<T>>[] leafMemo;
+  private final int[] sizeMemo;
+  private int[] componentMax;
+  private int[] maxFrom;
+  private final int[] stamps;
+  private final int[] stack;
+  private int epoch;
+
+  @SuppressWarnings("unchecked")
+  private Condensation(Vertex<T> root) {
+    vertices = VertexIndex.freeze(root);
+    CsrGraph<T> graph = CsrGraph.of(vertices);
+    int n = graph.vertexCount();
+    int[] offsets = graph.offsets();
+    int[] targets = graph.targets();
+
+    componentOf = new int[n];
+    int count = tarjan(offsets, targets);
+
+    memberOffsets = new int[count + 1];
+    for(int v = 0; v < n; v++){
+      memberOffsets[componentOf[v] + 1]++;
+    }
+    for(int c = 0; c < count; c++){
+      memberOffsets[c + 1] += memberOffsets[c];
+    }
+    members = new int[n];
+    int[] next = Arrays.copyOf(memberOffsets, count);
+    for(int v = 0; v < n; v++){
+      members[next[componentOf[v]]++] = v;
+    }
+
+    // Condensed edges, without duplicates or edges inside a component.
+    int[] lastSource = new int[count];
+    Arrays.fill(lastSource, -1);
+    int[] edges = new int[targets.length];
+    dagOffsets = new int[count + 1];
+    int edgeCount = 0;
+    for(int c = 0; c < count; c++){
+      for(int m = memberOffsets[c]; m < memberOffsets[c + 1]; m++){
+        int v = members[m];
+        for(int edge = offsets[v]; edge < offsets[v + 1]; edge++){
+          int d = componentOf[targets[edge]];
+          if(d == c || lastSource[d] == c) continue;
+          lastSource[d] = c;
+          edges[edgeCount++] = d;
+        }
+      }
+      dagOffsets[c + 1] = edgeCount;
+    }
+    dagTargets = Arrays.copyOf(edges, edgeCount);
+
+    leaf = new boolean[count];
+    for(int c = 0; c < count; c++){
+      // Not the CSR degree, which drops null neighbor entries.
+      leaf[c] = Practice.isLeaf(vertices.vertex(members[memberOffsets[c]]));
+    }
+    leafMemo = (Set<Vertex<T>>[]) new Set<?>[count];
+    sizeMemo = new int[count];
+    stamps = new int[count];
+    stack = new int[count];
+  }
+
+  /**
+   * Condenses the graph reachable from the given root.
+   *
+   * @param root The vertex to start from.
+   * @return The condensation.
+   * @throws NullPointerException if root is null.
+   */
+  public static <T> Condensation<T> of(Vertex<T> root) {
+    if(root == null){
+      throw new NullPointerException("Root cannot be null.");
+    }
+    return new Condensation<>(root);
+  }
+
+  /**
+   * @return The number of strongly connected components.
+   */
+  public int componentCount() {
+    return leaf.length;
+  }
+
+  /**
+   * Returns the component of a vertex. Components are numbered in reverse topological order, so an
+   * edge between two components always leads to the lower-numbered one.
+   *
+   * @param vertex Any vertex.
+   * @return The vertex's component, or -1 if the vertex is not part of the condensation.
+   */
+  public int componentOf(Vertex<T> vertex) {
+    int id = vertices.idOf(vertex);
+    return id < 0 ? -1 : componentOf[id];
+  }
+
+  /**
+   * @param component A component number.
+   * @return The number of vertices in the component.
+   */
+  public int componentSize(int component) {
+    return memberOffsets[component + 1] - memberOffsets[component];
+  }
+
+  /**
+   * @param component A component number.
+   * @return True if the component is a single vertex with no neighbors.
+   */
+  public boolean isLeaf(int component) {
+    return leaf[component];
+  }
+
+  /**
+   * Returns the largest value held by a vertex of the component. The vertices must hold Integer
+   * values, as for Practice.max.
+   *
+   * @param component A component number.
+   * @return The component's maximum value.
+   * @throws ClassCastException if the vertices do not hold Integer values.
+   */
+  public int componentMax(int component) {
+    aggregateMax();
+    return componentMax[component];
+  }
+
+  /**
+   * Returns the maximum value among all vertices reachable from the given starting vertex, with the
+   * same semantics as Practice.max. The vertices must hold Integer values. The first call computes
+   * the answer for every component at once; every call after that is a single array lookup.
+   *
+   * If the given vertex is null, the method returns Integer.MIN_VALUE.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return The maximum value of any reachable vertex, or Integer.MIN_VALUE if vertex is null.
+   * @throws ClassCastException if the vertices do not hold Integer values.
+   */
+  public int max(Vertex<T> vertex) {
+    if(vertex == null) return Integer.MIN_VALUE;
+    int start = componentOf(vertex);
+    if(start < 0){
+      @SuppressWarnings("unchecked")
+      Vertex<Integer> unindexed = (Vertex<Integer>) vertex;
+      return new Practice().max(unindexed);
+    }
+    aggregateMax();
+    return maxFrom[start];
+  }
+
+  /**
+   * Returns the number of vertices reachable from the given starting vertex, including the starting
+   * vertex itself, which is the size of Practice.reachable(vertex). The answer is computed over the
+   * condensed DAG and remembered for the vertex's component.
+   *
+   * If the given vertex is null, the method returns 0.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return The number of reachable vertices.
+   */
+  public int reachableSize(Vertex<T> vertex) {
+    if(vertex == null) return 0;
+    int start = componentOf(vertex);
+    if(start < 0) return new Practice().reachable(vertex).size();
+    if(sizeMemo[start] > 0) return sizeMemo[start];
+
+    int[] size = {0};
+    walk(start, c -> size[0] += componentSize(c));
+    sizeMemo[start] = size[0];
+    return size[0];
+  }
+
+  /**
+   * Returns a set of all vertices reachable from the given starting vertex, with the same semantics
+   * as Practice.reachable, by collecting the members of every component reachable in the condensed
+   * DAG.
+   *
+   * If the given vertex is null, an empty set is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return A set containing all reachable vertices.
+   */
+  public Set<Vertex<T>> reachable(Vertex<T> vertex) {
+    if(vertex == null) return new HashSet<>();
+    int start = componentOf(vertex);
+    if(start < 0) return new Practice().reachable(vertex);
+
+    Set<Vertex<T>> reachable = new HashSet<>();
+    walk(start, c -> {
+      for(int m = memberOffsets[c]; m < memberOffsets[c + 1]; m++){
+        reachable.add(vertices.vertex(members[m]));
+      }
+    });
+    return reachable;
+  }
+
+  /**
+   * Returns the set of all leaf vertices reachable from the given starting vertex, with the same
+   * semantics as Practice.leaves. The set is shared with later queries and cannot be modified.
+   *
+   * If the given vertex is null, an empty set is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return An unmodifiable set containing all reachable leaf vertices.
+   */
+  public Set<Vertex<T>> leaves(Vertex<T> vertex) {
+    if(vertex == null) return Collections.emptySet();
+    int start = componentOf(vertex);
+    if(start < 0) return Collections.unmodifiableSet(new Practice().leaves(vertex));
+    if(leafMemo[start] != null) return leafMemo[start];
+
+    Set<Vertex<T>> leaves = new HashSet<>();
+    nextEpoch();
+    stamps[start] = epoch;
+    int size = 0;
+    stack[size++] = start;
+    while(size > 0){
+      int c = stack[--size];
+      if(c != start && leafMemo[c] != null){
+        leaves.addAll(leafMemo[c]);
+        continue;
+      }
+      if(leaf[c]) leaves.add(vertices.vertex(members[memberOffsets[c]]));
+      for(int edge = dagOffsets[c]; edge < dagOffsets[c + 1]; edge++){
+        int d = dagTargets[edge];
+        if(stamps[d] == epoch) continue;
+        stamps[d] = epoch;
+        stack[size++] = d;
+      }
+    }
+    leafMemo[start] = Collections.unmodifiableSet(leaves);
+    return leafMemo[start];
+  }
+
+  private void aggregateMax() {
+    if(maxFrom != null) return;
+    int count = componentCount();
+    int[] max = new int[count];
+    int[] from = new int[count];
+    for(int c = 0; c < count; c++){
+      int value = Integer.MIN_VALUE;
+      for(int m = memberOffsets[c]; m < memberOffsets[c + 1]; m++){
+        value = Math.max(value, (Integer) vertices.vertex(members[m]).data);
+      }
+      max[c] = value;
+      // Successors always have lower numbers, so their answers are already known.
+      for(int edge = dagOffsets[c]; edge < dagOffsets[c + 1]; edge++){
+        value = Math.max(value, from[dagTargets[edge]]);
+      }
+      from[c] = value;
+    }
+    componentMax = max;
+    maxFrom = from;
+  }
+
+  private void walk(int start, IntConsumer action) {
+    nextEpoch();
+    stamps[start] = epoch;
+    int size = 0;
+    stack[size++] = start;
+    while(size > 0){
+      int c = stack[--size];
+      action.accept(c);
+      for(int edge = dagOffsets[c]; edge < dagOffsets[c + 1]; edge++){
+        int d = dagTargets[edge];
+        if(stamps[d] == epoch) continue;
+        stamps[d] = epoch;
+        stack[size++] = d;
+      }
+    }
+  }
+
+  private void nextEpoch() {
+    if(++epoch == 0){
+      Arrays.fill(stamps, 0);
+      epoch = 1;
+    }
+  }
+
+  /**
+   * Runs Tarjan's algorithm with explicit stacks, filling componentOf.
+   *
+   * @return The number of components found.
+   */
+  private int tarjan(int[] offsets, int[] targets) {
+    int n = componentOf.length;
+    int[] order = new int[n];
+    int[] low = new int[n];
+    int[] cursor = new int[n];
+    int[] calls = new int[n];
+    int[] open = new int[n];
+    boolean[] onStack = new boolean[n];
+    Arrays.fill(order, -1);
+    int counter = 0;
+    int components = 0;
+    int openSize = 0;
+
+    for(int s = 0; s < n; s++){
+      if(order[s] >= 0) continue;
+      int callSize = 0;
+      order[s] = low[s] = counter++;
+      cursor[s] = offsets[s];
+      open[openSize++] = s;
+      onStack[s] = true;
+      calls[callSize++] = s;
+
+      while(callSize > 0){
+        int v = calls[callSize - 1];
+        if(cursor[v] < offsets[v + 1]){
+          int w = targets[cursor[v]++];
+          if(order[w] < 0){
+            order[w] = low[w] = counter++;
+            cursor[w] = offsets[w];
+            open[openSize++] = w;
+            onStack[w] = true;
+            calls[callSize++] = w;
+          } else if(onStack[w]){
+            low[v] = Math.min(low[v], order[w]);
+          }
+          continue;
+        }
+
+        callSize--;
+        if(low[v] == order[v]){
+          int w;
+          do {
+            w = open[--openSize];
+            onStack[w] = false;
+            componentOf[w] = components;
+          } while(w != v);
+          components++;
+        }
+        if(callSize > 0){
+          int parent = calls[callSize - 1];
+          low[parent] = Math.min(low[parent], low[v]);
+        }
+      }
+    }
+    return components;
+  }
+}
@@ -0,0 +1,408 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable graph in compressed sparse row (CSR) form.
+ *
+ * Vertices are identified by dense ids 0..vertexCount()-1. The neighbors of vertex v are
+ * targets[offsets[v]] .. targets[offsets[v + 1] - 1], so a traversal walks two flat int arrays
+ * instead of chasing a List of boxed Vertex references on every hop. Values are kept in a
+ * separate array; graphs built with ofInts store them in an int[] so that max and increasing-path
+ * queries never unbox.
+ *
+ * A graph built from a Vertex root contains every vertex reachable from that root. The root always
+ * has id 0 and the remaining ids are assigned in depth-first discovery order.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class CsrGraph<T> {
+
+  /**
+   * Callback used by traverse to report vertex ids and to decide which edges to follow.
+   */
+  public interface Visitor {
+    /**
+     * Called exactly once for every vertex the traversal reaches, including the start vertex.
+     *
+     * @param vertex The id of the newly reached vertex.
+     * @return True to continue the traversal, false to stop it immediately.
+     */
+    boolean visit(int vertex);
+
+    /**
+     * Decides whether the traversal may move along the edge between two vertices.
+     * By default every edge is followed.
+     *
+     * @param from The id of the vertex whose neighbors are being expanded.
+     * @param to The id of the neighbor at the other end of the edge.
+     * @return True if the edge should be followed.
+     */
+    default boolean follow(int from, int to) {
+      return true;
+    }
+  }
+
+  private final int[] offsets;
+  private final int[] targets;
+  private final Object[] values;
+  private final int[] intValues;
+
+  private CsrGraph(int[] offsets, int[] targets, Object[] values, int[] intValues) {
+    this.offsets = offsets;
+    this.targets = targets;
+    this.values = values;
+    this.intValues = intValues;
+  }
+
+  /**
+   * Builds a CSR graph containing every vertex reachable from the given root.
+   *
+   * @param root The vertex that becomes id 0.
+   * @return The compressed graph.
+   * @throws NullPointerException if root is null.
+   */
+  public static <T> CsrGraph<T> of(Vertex<T> root) {
+    List<Vertex<T>> order = discover(root);
+    Object[] values = new Object[order.size()];
+    for(int i = 0; i < values.length; i++){
+      values[i] = order.get(i).data;
+    }
+    return compress(order, discoveryIds(order), values, null);
+  }
+
+  /**
+   * Builds a CSR graph of Integer values containing every vertex reachable from the given root.
+   * The values are stored unboxed in an int[].
+   *
+   * @param root The vertex that becomes id 0.
+   * @return The compressed graph.
+   * @throws NullPointerException if root is null or any reachable vertex holds a null value.
+   */
+  public static CsrGraph<Integer> ofInts(Vertex<Integer> root) {
+    List<Vertex<Integer>> order = discover(root);
+    int[] intValues = new int[order.size()];
+    for(int i = 0; i < intValues.length; i++){
+      intValues[i] = order.get(i).data;
+    }
+    return compress(order, discoveryIds(order), null, intValues);
+  }
+
+  /**
+   * Builds a CSR graph of a frozen graph, using the ids assigned by the index so that CSR ids and
+   * index ids always refer to the same vertices.
+   *
+   * @param index The frozen graph.
+   * @return The compressed graph.
+   * @throws NullPointerException if index is null.
+   * @throws IllegalStateException if the graph gained an edge to an unindexed vertex since it was frozen.
+   */
+  public static <T> CsrGraph<T> of(VertexIndex<T> index) {
+    List<Vertex<T>> order = indexed(index);
+    Object[] values = new Object[order.size()];
+    for(int i = 0; i < values.length; i++){
+      values[i] = order.get(i).data;
+    }
+    return compress(order, indexIds(index), values, null);
+  }
+
+  /**
+   * Builds a CSR graph of Integer values from a frozen graph, using the ids assigned by the index.
+   *
+   * @param index The frozen graph.
+   * @return The compressed graph.
+   * @throws NullPointerException if index is null or any indexed vertex holds a null value.
+   * @throws IllegalStateException if the graph gained an edge to an unindexed vertex since it was frozen.
+   */
+  public static CsrGraph<Integer> ofInts(VertexIndex<Integer> index) {
+    List<Vertex<Integer>> order = indexed(index);
+    int[] intValues = new int[order.size()];
+    for(int i = 0; i < intValues.length; i++){
+      intValues[i] = order.get(i).data;
+    }
+    return compress(order, indexIds(index), null, intValues);
+  }
+
+  /**
+   * Builds a CSR graph of every vertex reachable from any of the given roots, for batch queries in
+   * this package. Ids follow discovery order, root by root, so the first root has id 0; null roots
+   * are skipped. The vertex of every id is appended to order.
+   */
+  static <T> CsrGraph<T> of(List<Vertex<T>> roots, List<Vertex<T>> order) {
+    TraversalEngine engine = new TraversalEngine();
+    VisitedSet<T> visited = new HashSet<Vertex<T>>()::add;
+    for(Vertex<T> root : roots){
+      if(root != null) engine.traverse(root, visited, vertex -> order.add(vertex));
+    }
+    Object[] values = new Object[order.size()];
+    for(int i = 0; i < values.length; i++){
+      values[i] = order.get(i).data;
+    }
+    return compress(order, discoveryIds(order), values, null);
+  }
+
+  /**
+   * Wraps arrays already in CSR form without copying them, for loaders in this package.
+   * The caller must not modify the arrays afterwards.
+   */
+  static CsrGraph<Integer> ofArrays(int[] offsets, int[] targets, int[] intValues) {
+    return new CsrGraph<>(offsets, targets, null, intValues);
+  }
+
+  private static <T> List<Vertex<T>> indexed(VertexIndex<T> index) {
+    if(index == null){
+      throw new NullPointerException("Index cannot be null.");
+    }
+    List<Vertex<T>> order = new ArrayList<>(index.size());
+    for(int id = 0; id < index.size(); id++){
+      order.add(index.vertex(id));
+    }
+    return order;
+  }
+
+  private static <T> ToIntFunction<Vertex<T>> indexIds(VertexIndex<T> index) {
+    return vertex -> {
+      int id = index.idOf(vertex);
+      if(id < 0){
+        throw new IllegalStateException("Graph has an edge to a vertex added after it was frozen; freeze it again.");
+      }
+      return id;
+    };
+  }
+
+  private static <T> List<Vertex<T>> discover(Vertex<T> root) {
+    if(root == null){
+      throw new NullPointerException("Root cannot be null.");
+    }
+    List<Vertex<T>> order = new ArrayList<>();
+    new TraversalEngine().traverse(root, new HashSet<Vertex<T>>()::add, vertex -> order.add(vertex));
+    return order;
+  }
+
+  private static <T> ToIntFunction<Vertex<T>> discoveryIds(List<Vertex<T>> order) {
+    Map<Vertex<T>, Integer> ids = new HashMap<>(order.size() * 2);
+    for(int i = 0; i < order.size(); i++){
+      ids.put(order.get(i), i);
+    }
+    return ids::get;
+  }
+
+  private static <T> CsrGraph<T> compress(List<Vertex<T>> order, ToIntFunction<Vertex<T>> ids,
+                                          Object[] values, int[] intValues) {
+    int n = order.size();
+    int[] offsets = new int[n + 1];
+    long edgeCount = 0;
+    for(int i = 0; i < n; i++){
+      List<Vertex<T>> neighbors = order.get(i).neighbors;
+      if(neighbors != null){
+        for(Vertex<T> neighbor : neighbors){
+          if(neighbor != null) edgeCount++;
+        }
+      }
+      if(edgeCount > Integer.MAX_VALUE){
+        throw new IllegalArgumentException("Graph has too many edges for CSR form: " + edgeCount);
+      }
+      offsets[i + 1] = (int) edgeCount;
+    }
+
+    int[] targets = new int[(int) edgeCount];
+    int edge = 0;
+    for(int i = 0; i < n; i++){
+      List<Vertex<T>> neighbors = order.get(i).neighbors;
+      if(neighbors == null) continue;
+      for(Vertex<T> neighbor : neighbors){
+        if(neighbor != null) targets[edge++] = ids.applyAsInt(neighbor);
+      }
+    }
+    return new CsrGraph<>(offsets, targets, values, intValues);
+  }
+
+  /**
+   * @return The number of vertices in the graph.
+   */
+  public int vertexCount() {
+    return offsets.length - 1;
+  }
+
+  /**
+   * @return The number of edges in the graph, counting self-loops and repeated edges.
+   */
+  public int edgeCount() {
+    return targets.length;
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @return The number of outgoing edges of the vertex.
+   */
+  public int degree(int vertex) {
+    checkVertex(vertex);
+    return offsets[vertex + 1] - offsets[vertex];
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @param index The position of the neighbor, from 0 to degree(vertex) - 1.
+   * @return The id of the index-th neighbor of the vertex.
+   */
+  public int neighbor(int vertex, int index) {
+    if(index < 0 || index >= degree(vertex)){
+      throw new IndexOutOfBoundsException("Neighbor index " + index + " out of range for vertex " + vertex);
+    }
+    return targets[offsets[vertex] + index];
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @return The value held by the vertex.
+   */
+  @SuppressWarnings("unchecked")
+  public T value(int vertex) {
+    checkVertex(vertex);
+    return intValues != null ? (T) Integer.valueOf(intValues[vertex]) : (T) values[vertex];
+  }
+
+  /**
+   * Returns the value of a vertex as an int, without boxing when the graph was built with ofInts.
+   *
+   * @param vertex A vertex id.
+   * @return The int value held by the vertex.
+   * @throws ClassCastException if the graph does not hold Integer values.
+   */
+  public int intValue(int vertex) {
+    checkVertex(vertex);
+    return intValues != null ? intValues[vertex] : (Integer) values[vertex];
+  }
+
+  /**
+   * Returns the transpose of this graph: the same vertices and values, with every edge reversed.
+   * The neighbors of a vertex in the transpose are the vertices that point to it here.
+   *
+   * @return The reversed graph.
+   */
+  public CsrGraph<T> transpose() {
+    int n = vertexCount();
+    int[] reverseOffsets = new int[n + 1];
+    for(int target : targets){
+      reverseOffsets[target + 1]++;
+    }
+    for(int i = 0; i < n; i++){
+      reverseOffsets[i + 1] += reverseOffsets[i];
+    }
+    int[] next = Arrays.copyOf(reverseOffsets, n);
+    int[] reverseTargets = new int[targets.length];
+    for(int from = 0; from < n; from++){
+      for(int edge = offsets[from]; edge < offsets[from + 1]; edge++){
+        reverseTargets[next[targets[edge]]++] = from;
+      }
+    }
+    return new CsrGraph<>(reverseOffsets, reverseTargets, values, intValues);
+  }
+
+  /**
+   * Exposes the offsets array without copying, for traversal code in this package.
+   * Callers must not modify it.
+   */
+  int[] offsets() {
+    return offsets;
+  }
+
+  /**
+   * Exposes the targets array without copying, for traversal code in this package.
+   * Callers must not modify it.
+   */
+  int[] targets() {
+    return targets;
+  }
+
+  /**
+   * Visits every vertex reachable from the start vertex that is not already set in the visited
+   * bits, using an explicit depth-first stack. A vertex's bit is set, and the vertex passed to the
+   * visitor, the first time it is reached.
+   *
+   * @param start The id to start from.
+   * @param visited The ids already reached; updated as the traversal proceeds.
+   * @param visitor The callback that receives each reached id.
+   * @return True if the traversal ran to completion, false if the visitor stopped it early.
+   */
+  public boolean traverse(int start, BitSet visited, Visitor visitor) {
+    checkVertex(start);
+    if(visited.get(start)) return true;
+    visited.set(start);
+    if(!visitor.visit(start)) return false;
+
+    int[] stack = new int[vertexCount()];
+    int size = 0;
+    stack[size++] = start;
+    while(size > 0){
+      int current = stack[--size];
+      for(int edge = offsets[current], end = offsets[current + 1]; edge < end; edge++){
+        int neighbor = targets[edge];
+        if(visited.get(neighbor) || !visitor.follow(current, neighbor)) continue;
+        visited.set(neighbor);
+        if(!visitor.visit(neighbor)) return false;
+        stack[size++] = neighbor;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a copy of this graph in which the vertex with id v has id newIds[v], for reordering
+   * code in this package. Each vertex keeps its neighbors in their original order. newIds must be a
+   * permutation of 0..vertexCount()-1.
+   */
+  CsrGraph<T> permute(int[] newIds) {
+    int n = vertexCount();
+    int[] oldIds = new int[n];
+    for(int v = 0; v < n; v++){
+      oldIds[newIds[v]] = v;
+    }
+    int[] newOffsets = new int[n + 1];
+    int[] newTargets = new int[targets.length];
+    Object[] newValues = values == null ? null : new Object[n];
+    int[] newIntValues = intValues == null ? null : new int[n];
+    int edge = 0;
+    for(int id = 0; id < n; id++){
+      int old = oldIds[id];
+      for(int e = offsets[old]; e < offsets[old + 1]; e++){
+        newTargets[edge++] = newIds[targets[e]];
+      }
+      newOffsets[id + 1] = edge;
+      if(newValues != null) newValues[id] = values[old];
+      if(newIntValues != null) newIntValues[id] = intValues[old];
+    }
+    return new CsrGraph<>(newOffsets, newTargets, newValues, newIntValues);
+  }
+
+  /**
+   * Converts the graph back into linked Vertex form.
+   *
+   * @return A list of freshly created vertices indexed by id; the element at index 0 is the root.
+   */
+  public List<Vertex<T>> toVertices() {
+    int n = vertexCount();
+    List<Vertex<T>> vertices = new ArrayList<>(n);
+    for(int i = 0; i < n; i++){
+      vertices.add(new Vertex<>(value(i), new ArrayList<>(offsets[i + 1] - offsets[i])));
+    }
+    for(int i = 0; i < n; i++){
+      List<Vertex<T>> neighbors = vertices.get(i).neighbors;
+      for(int edge = offsets[i]; edge < offsets[i + 1]; edge++){
+        neighbors.add(vertices.get(targets[edge]));
+      }
+    }
+    return vertices;
+  }
+
+  private void checkVertex(int vertex) {
+    if(vertex < 0 || vertex >= vertexCount()){
+      throw new IndexOutOfBoundsException("Vertex id " + vertex + " out of range for graph of " + vertexCount() + " vertices");
+    }
+  }
+}
@@ -0,0 +1,290 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the reachable sets, and the maximum reachable value, of registered roots up to date while
+ * edges are added to and removed from a Vertex graph.
+ *
+ * All edge mutations must go through addEdge and removeEdge while any root is tracked. Each update
+ * only touches the region it affects:
+ * <ul>
+ *   <li>Adding an edge u -> v extends the reachable set of every root that reaches u but not v, with a
+ *       traversal from v that stops at vertices the root already reached.</li>
+ *   <li>Removing the last edge u -> v can only disconnect vertices that v reaches within the root's
+ *       reachable set; every other vertex kept a path that avoids the edge. Those affected vertices are
+ *       re-seeded from the ones with a predecessor outside the affected region, and whatever the seeds
+ *       do not reach again is dropped.</li>
+ * </ul>
+ * To find predecessors the structure keeps reverse adjacency for every vertex reachable from a tracked
+ * root; once no tracked root reaches a vertex, because of a deletion or an untrack, its entries are
+ * dropped. The running maximum only needs a scan of the reachable set when a deletion removes the
+ * vertex holding it.
+ *
+ * This class is not thread-safe.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class DynamicReachability<T> {
+  private final Comparator<? super T> order;
+  private final Map<Vertex<T>, Set<Vertex<T>>> reachable = new HashMap<>();
+  private final Map<Vertex<T>, Vertex<T>> maxima = new HashMap<>();
+  private final Map<Vertex<T>, List<Vertex<T>>> predecessors = new HashMap<>();
+  private final Set<Vertex<T>> known = new HashSet<>();
+  private final TraversalEngine engine = new TraversalEngine();
+
+  /**
+   * Creates an empty structure.
+   *
+   * @param order The order used to determine the maximum reachable value.
+   * @throws NullPointerException if order is null.
+   */
+  public DynamicReachability(Comparator<? super T> order) {
+    if(order == null){
+      throw new NullPointerException("Order cannot be null.");
+    }
+    this.order = order;
+  }
+
+  /**
+   * Starts tracking the vertices reachable from the given root. Tracking a root twice has no effect.
+   *
+   * @param root The root to track.
+   * @throws NullPointerException if root is null.
+   */
+  public void track(Vertex<T> root) {
+    if(root == null){
+      throw new NullPointerException("Root cannot be null.");
+    }
+    if(reachable.containsKey(root)) return;
+
+    Set<Vertex<T>> set = new HashSet<>();
+    reachable.put(root, set);
+    maxima.put(root, root);
+    extend(root, root, set);
+  }
+
+  /**
+   * Stops tracking the given root, and drops the reverse adjacency of every vertex that no other
+   * tracked root reaches.
+   *
+   * @param root The root to stop tracking.
+   */
+  public void untrack(Vertex<T> root) {
+    Set<Vertex<T>> set = reachable.remove(root);
+    maxima.remove(root);
+    if(set != null) forget(set);
+  }
+
+  /**
+   * Returns the vertices currently reachable from a tracked root, including the root itself.
+   *
+   * @param root A tracked root.
+   * @return An unmodifiable live view of the reachable set.
+   * @throws IllegalArgumentException if root is not tracked.
+   */
+  public Set<Vertex<T>> reachable(Vertex<T> root) {
+    return Collections.unmodifiableSet(setOf(root));
+  }
+
+  /**
+   * Returns the maximum value among the vertices currently reachable from a tracked root.
+   *
+   * @param root A tracked root.
+   * @return The maximum reachable value.
+   * @throws IllegalArgumentException if root is not tracked.
+   */
+  public T max(Vertex<T> root) {
+    setOf(root);
+    return maxima.get(root).data;
+  }
+
+  /**
+   * @return The number of vertices whose reverse adjacency is kept: those reachable from any
+   *         tracked root.
+   */
+  public int knownVertexCount() {
+    return known.size();
+  }
+
+  /**
+   * Adds the edge from -> to and updates every tracked root that now reaches more vertices.
+   *
+   * @param from The source of the edge.
+   * @param to The target of the edge.
+   * @throws NullPointerException if from or to is null.
+   */
+  public void addEdge(Vertex<T> from, Vertex<T> to) {
+    if(from == null || to == null){
+      throw new NullPointerException("From or to cannot be null.");
+    }
+    if(from.neighbors == null) from.neighbors = new ArrayList<>();
+    from.neighbors.add(to);
+    if(known.contains(from)) predecessorsOf(to).add(from);
+
+    for(Map.Entry<Vertex<T>, Set<Vertex<T>>> entry : reachable.entrySet()){
+      Set<Vertex<T>> set = entry.getValue();
+      if(set.contains(from) && !set.contains(to)){
+        extend(entry.getKey(), to, set);
+      }
+    }
+  }
+
+  /**
+   * Removes one edge from -> to, if present, and updates every tracked root that may have lost
+   * vertices. If from still has another edge to the same target, reachability is unchanged.
+   *
+   * @param from The source of the edge.
+   * @param to The target of the edge.
+   * @return True if an edge was removed.
+   * @throws NullPointerException if from or to is null.
+   */
+  public boolean removeEdge(Vertex<T> from, Vertex<T> to) {
+    if(from == null || to == null){
+      throw new NullPointerException("From or to cannot be null.");
+    }
+    if(from.neighbors == null || !from.neighbors.remove(to)) return false;
+    if(known.contains(from)) removePredecessor(to, from);
+    if(from.neighbors.contains(to)) return true;
+
+    for(Map.Entry<Vertex<T>, Set<Vertex<T>>> entry : reachable.entrySet()){
+      Vertex<T> root = entry.getKey();
+      Set<Vertex<T>> set = entry.getValue();
+      if(to != root && set.contains(from)){
+        shrink(root, to, set);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds every vertex reachable from start that is not yet in the root's set.
+   */
+  private void extend(Vertex<T> root, Vertex<T> start, Set<Vertex<T>> set) {
+    List<Vertex<T>> added = new ArrayList<>();
+    engine.traverse(start, set::add, added::add);
+
+    Vertex<T> max = maxima.get(root);
+    for(Vertex<T> vertex : added){
+      learn(vertex);
+      if(order.compare(vertex.data, max.data) > 0) max = vertex;
+    }
+    maxima.put(root, max);
+  }
+
+  /**
+   * Drops the vertices that are no longer reachable after the last edge into start from the set
+   * was removed.
+   */
+  private void shrink(Vertex<T> root, Vertex<T> start, Set<Vertex<T>> set) {
+    Set<Vertex<T>> affected = new HashSet<>();
+    engine.traverse(start, affected::add, new TraversalEngine.Visitor<T>() {
+      @Override
+      public boolean visit(Vertex<T> vertex) {
+        return true;
+      }
+
+      @Override
+      public boolean follow(Vertex<T> from, Vertex<T> to) {
+        return set.contains(to);
+      }
+    });
+
+    Set<Vertex<T>> kept = new HashSet<>();
+    for(Vertex<T> vertex : affected){
+      if(vertex == root || hasPredecessorOutside(vertex, affected, set)){
+        engine.traverse(vertex, kept::add, new TraversalEngine.Visitor<T>() {
+          @Override
+          public boolean visit(Vertex<T> reached) {
+            return true;
+          }
+
+          @Override
+          public boolean follow(Vertex<T> from, Vertex<T> to) {
+            return affected.contains(to);
+          }
+        });
+      }
+    }
+
+    boolean lostMax = false;
+    Vertex<T> max = maxima.get(root);
+    List<Vertex<T>> dropped = new ArrayList<>();
+    for(Vertex<T> vertex : affected){
+      if(kept.contains(vertex)) continue;
+      set.remove(vertex);
+      dropped.add(vertex);
+      if(vertex == max) lostMax = true;
+    }
+    forget(dropped);
+    if(lostMax){
+      max = root;
+      for(Vertex<T> vertex : set){
+        if(order.compare(vertex.data, max.data) > 0) max = vertex;
+      }
+      maxima.put(root, max);
+    }
+  }
+
+  private boolean hasPredecessorOutside(Vertex<T> vertex, Set<Vertex<T>> affected, Set<Vertex<T>> set) {
+    List<Vertex<T>> preds = predecessors.get(vertex);
+    if(preds == null) return false;
+    for(Vertex<T> pred : preds){
+      if(set.contains(pred) && !affected.contains(pred)) return true;
+    }
+    return false;
+  }
+
+  private void learn(Vertex<T> vertex) {
+    if(!known.add(vertex) || vertex.neighbors == null) return;
+    for(Vertex<T> neighbor : vertex.neighbors){
+      if(neighbor != null) predecessorsOf(neighbor).add(vertex);
+    }
+  }
+
+  /**
+   * Undoes learn for every candidate that no tracked root reaches any more.
+   */
+  private void forget(Collection<Vertex<T>> candidates) {
+    for(Vertex<T> vertex : candidates){
+      if(!known.contains(vertex) || reachedByAnyRoot(vertex)) continue;
+      known.remove(vertex);
+      if(vertex.neighbors == null) continue;
+      for(Vertex<T> neighbor : vertex.neighbors){
+        if(neighbor != null) removePredecessor(neighbor, vertex);
+      }
+    }
+  }
+
+  private boolean reachedByAnyRoot(Vertex<T> vertex) {
+    for(Set<Vertex<T>> set : reachable.values()){
+      if(set.contains(vertex)) return true;
+    }
+    return false;
+  }
+
+  private void removePredecessor(Vertex<T> vertex, Vertex<T> predecessor) {
+    List<Vertex<T>> preds = predecessors.get(vertex);
+    if(preds != null && preds.remove(predecessor) && preds.isEmpty()){
+      predecessors.remove(vertex);
+    }
+  }
+
+  private List<Vertex<T>> predecessorsOf(Vertex<T> vertex) {
+    return predecessors.computeIfAbsent(vertex, ignored -> new ArrayList<>(2));
+  }
+
+  private Set<Vertex<T>> setOf(Vertex<T> root) {
+    Set<Vertex<T>> set = reachable.get(root);
+    if(set == null){
+      throw new IllegalArgumentException("Root is not tracked.");
+    }
+    return set;
+  }
+}
@@ -0,0 +1,113 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable, array-backed LIFO work list used by the traversal engine.
+ *
+ * Unlike java.util.Stack it is unsynchronized, and clearing it keeps the backing array,
+ * so a single frontier can be reused across many traversals without reallocating.
+ *
+ * @param <E> The type of element held in the frontier.
+ */
+public class Frontier<E> {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private Object[] elements;
+  private int size;
+
+  /**
+   * Creates an empty frontier with a small default capacity.
+   */
+  public Frontier() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty frontier able to hold the given number of elements before growing.
+   *
+   * @param capacity The initial capacity.
+   * @throws IllegalArgumentException if capacity is negative.
+   */
+  public Frontier(int capacity) {
+    if(capacity < 0){
+      throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+    }
+    elements = new Object[Math.max(1, capacity)];
+  }
+
+  /**
+   * Pushes an element onto the top of the frontier, growing the backing array if needed.
+   *
+   * @param element The element to push.
+   */
+  public void push(E element) {
+    if(size == elements.length){
+      elements = Arrays.copyOf(elements, grow(size));
+    }
+    elements[size++] = element;
+  }
+
+  /**
+   * Removes and returns the element on top of the frontier.
+   *
+   * @return The most recently pushed element.
+   * @throws NoSuchElementException if the frontier is empty.
+   */
+  @SuppressWarnings("unchecked")
+  public E pop() {
+    if(size == 0){
+      throw new NoSuchElementException("Frontier is empty.");
+    }
+    E element = (E) elements[--size];
+    elements[size] = null;
+    return element;
+  }
+
+  /**
+   * Removes the older half of the elements and returns them in a new frontier, keeping their order.
+   * Older elements sit closer to the start of a depth-first traversal, so they tend to lead to the
+   * largest unexplored regions, which makes them the best work to hand to another thread.
+   *
+   * @return A new frontier holding the removed elements; empty if this frontier has fewer than two.
+   */
+  public Frontier<E> split() {
+    int half = size / 2;
+    Frontier<E> older = new Frontier<>(Math.max(half, DEFAULT_CAPACITY));
+    System.arraycopy(elements, 0, older.elements, 0, half);
+    older.size = half;
+    System.arraycopy(elements, half, elements, 0, size - half);
+    Arrays.fill(elements, size - half, size, null);
+    size -= half;
+    return older;
+  }
+
+  /**
+   * @return True if the frontier holds no elements.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return The number of elements currently in the frontier.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes every element while keeping the backing array for reuse.
+   */
+  public void clear() {
+    Arrays.fill(elements, 0, size, null);
+    size = 0;
+  }
+
+  private static int grow(int capacity) {
+    if(capacity >= MAX_CAPACITY){
+      throw new OutOfMemoryError("Frontier cannot grow beyond " + MAX_CAPACITY + " elements.");
+    }
+    return (int) Math.min((long) capacity * 2, MAX_CAPACITY);
+  }
+}
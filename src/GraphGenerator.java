@@ -0,0 +1,231 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic, seeded generators for Vertex graphs of Integer values.
+ *
+ * Every generator returns the vertices of the graph in a list where vertex i holds the value i,
+ * so values are unique, and the vertex at index 0 is the root from which traversals start.
+ * Graphs are built with plain loops, never recursion, so they can be as large as the heap allows.
+ */
+public final class GraphGenerator {
+  // How far past a vertex the extra edges of deepDag may reach.
+  private static final int DAG_SPAN = 64;
+  // The largest array most VMs will allocate.
+  private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+  private GraphGenerator() {
+  }
+
+  /**
+   * Builds a chain 0 -> 1 -> ... -> (size - 1): the deepest graph possible for its size.
+   *
+   * @param size The number of vertices.
+   * @return The vertices, indexed by value.
+   */
+  public static List<Vertex<Integer>> chain(int size) {
+    List<Vertex<Integer>> vertices = vertices(size);
+    for(int i = 0; i + 1 < size; i++){
+      vertices.get(i).neighbors.add(vertices.get(i + 1));
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a random sparse graph in the Erdos-Renyi G(n, m) model: size * averageDegree edges,
+   * each between two uniformly chosen vertices. Self-loops and repeated edges may occur.
+   *
+   * @param size The number of vertices.
+   * @param averageDegree The average number of outgoing edges per vertex.
+   * @param seed The random seed.
+   * @return The vertices, indexed by value.
+   */
+  public static List<Vertex<Integer>> randomSparse(int size, int averageDegree, long seed) {
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = vertices(size);
+    long edges = (long) size * averageDegree;
+    for(long e = 0; e < edges; e++){
+      vertices.get(random.nextInt(size)).neighbors.add(vertices.get(random.nextInt(size)));
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a power-law graph by preferential attachment: each new vertex is attached to
+   * edgesPerVertex existing vertices chosen with probability proportional to their degree, and the
+   * edges point from the existing vertex to the new one. Early vertices become hubs with very large
+   * out-degree, and everything is reachable from the root.
+   *
+   * @param size The number of vertices.
+   * @param edgesPerVertex The number of edges added with each new vertex.
+   * @param seed The random seed.
+   * @return The vertices, indexed by value.
+   * @throws IllegalArgumentException if the graph has more edge endpoints than fit in an array.
+   */
+  public static List<Vertex<Integer>> powerLaw(int size, int edgesPerVertex, long seed) {
+    long endpointLength = Math.max(2, 2L * size * edgesPerVertex);
+    if(endpointLength > MAX_ARRAY_LENGTH){
+      throw new IllegalArgumentException("Too many edges for a power-law graph: " + size + " vertices with "
+          + edgesPerVertex + " edges each need " + endpointLength + " endpoints, more than " + MAX_ARRAY_LENGTH);
+    }
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = vertices(size);
+    int[] endpoints = new int[(int) endpointLength];
+    int endpointCount = 0;
+    for(int v = 1; v < size; v++){
+      for(int e = 0; e < edgesPerVertex; e++){
+        int target = endpointCount == 0 ? 0 : endpoints[random.nextInt(endpointCount)];
+        vertices.get(target).neighbors.add(vertices.get(v));
+        endpoints[endpointCount++] = target;
+        endpoints[endpointCount++] = v;
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a dense clique: every vertex has an edge to every other vertex.
+   *
+   * @param size The number of vertices.
+   * @return The vertices, indexed by value.
+   */
+  public static List<Vertex<Integer>> clique(int size) {
+    List<Vertex<Integer>> vertices = vertices(size);
+    for(Vertex<Integer> from : vertices){
+      for(Vertex<Integer> to : vertices){
+        if(from != to) from.neighbors.add(to);
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a graph full of cycles: a ring 0 -> 1 -> ... -> (size - 1) -> 0, random back edges that
+   * close shorter cycles, and a self-loop on every tenth vertex, like v34 in the test fixtures.
+   *
+   * @param size The number of vertices.
+   * @param seed The random seed.
+   * @return The vertices, indexed by value.
+   */
+  public static List<Vertex<Integer>> cyclic(int size, long seed) {
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = vertices(size);
+    for(int i = 0; i < size; i++){
+      Vertex<Integer> vertex = vertices.get(i);
+      vertex.neighbors.add(vertices.get((i + 1) % size));
+      if(i > 0) vertex.neighbors.add(vertices.get(random.nextInt(i)));
+      if(i % 10 == 0) vertex.neighbors.add(vertex);
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a recursive-matrix (R-MAT) graph with the Graph500 parameters: 2^scale vertices and
+   * 2^scale * edgeFactor edges, each placed by descending scale times into one quadrant of the
+   * adjacency matrix with probabilities 0.57, 0.19, 0.19 and 0.05. The result has a skewed,
+   * power-law-like degree distribution with low ids as the hubs, and, unlike powerLaw, cycles and
+   * vertices the root cannot reach. Self-loops and repeated edges may occur.
+   *
+   * @param scale The base-2 logarithm of the number of vertices, between 0 and 30.
+   * @param edgeFactor The average number of outgoing edges per vertex.
+   * @param seed The random seed.
+   * @return The vertices, indexed by value.
+   * @throws IllegalArgumentException if scale is out of range.
+   */
+  public static List<Vertex<Integer>> rmat(int scale, int edgeFactor, long seed) {
+    if(scale < 0 || scale > 30){
+      throw new IllegalArgumentException("Scale must be between 0 and 30: " + scale);
+    }
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = vertices(1 << scale);
+    long edges = (long) vertices.size() * edgeFactor;
+    for(long e = 0; e < edges; e++){
+      int from = 0;
+      int to = 0;
+      for(int bit = scale - 1; bit >= 0; bit--){
+        double quadrant = random.nextDouble();
+        if(quadrant >= 0.57 + 0.19 + 0.19){
+          from |= 1 << bit;
+          to |= 1 << bit;
+        } else if(quadrant >= 0.57 + 0.19){
+          from |= 1 << bit;
+        } else if(quadrant >= 0.57){
+          to |= 1 << bit;
+        }
+      }
+      vertices.get(from).neighbors.add(vertices.get(to));
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a deep directed acyclic graph: a chain 0 -> 1 -> ... -> (size - 1) as its spine, plus
+   * extraEdges edges from every vertex to vertices at most DAG_SPAN positions further along. Every
+   * edge points to a higher value, so the graph is as deep as a chain of the same size, has many
+   * paths between most pairs of vertices, and every path in it is strictly increasing.
+   *
+   * @param size The number of vertices.
+   * @param extraEdges The number of edges added to each vertex besides its spine edge.
+   * @param seed The random seed.
+   * @return The vertices, indexed by value.
+   */
+  public static List<Vertex<Integer>> deepDag(int size, int extraEdges, long seed) {
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = chain(size);
+    for(int i = 0; i + 1 < size; i++){
+      int span = Math.min(DAG_SPAN, size - 1 - i);
+      for(int e = 0; e < extraEdges; e++){
+        vertices.get(i).neighbors.add(vertices.get(i + 1 + random.nextInt(span)));
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * Builds a graph of many strongly connected components: consecutive runs of componentSize
+   * vertices are each closed into a ring with one random chord per vertex, and every vertex also
+   * gets one edge to a random vertex of a later component. Because no edge leads back to an
+   * earlier component, the runs are exactly the strongly connected components, they form a DAG,
+   * and the edge from the first vertex of each component to the first of the next lets the root
+   * reach everything.
+   *
+   * @param size The number of vertices.
+   * @param componentSize The number of vertices in each component; the last may be smaller.
+   * @param seed The random seed.
+   * @return The vertices, indexed by value.
+   * @throws IllegalArgumentException if componentSize is not positive.
+   */
+  public static List<Vertex<Integer>> manySccs(int size, int componentSize, long seed) {
+    if(componentSize <= 0){
+      throw new IllegalArgumentException("Component size must be positive: " + componentSize);
+    }
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = vertices(size);
+    for(int first = 0; first < size; first += componentSize){
+      int end = Math.min(size, first + componentSize);
+      for(int i = first; i < end; i++){
+        Vertex<Integer> vertex = vertices.get(i);
+        if(end - first > 1){
+          vertex.neighbors.add(vertices.get(i + 1 < end ? i + 1 : first));
+          vertex.neighbors.add(vertices.get(first + random.nextInt(end - first)));
+        }
+        if(end < size){
+          vertex.neighbors.add(vertices.get(i == first ? end : end + random.nextInt(size - end)));
+        }
+      }
+    }
+    return vertices;
+  }
+
+  private static List<Vertex<Integer>> vertices(int size) {
+    if(size <= 0){
+      throw new IllegalArgumentException("Size must be positive: " + size);
+    }
+    List<Vertex<Integer>> vertices = new ArrayList<>(size);
+    for(int i = 0; i < size; i++){
+      vertices.add(new Vertex<>(i));
+    }
+    return vertices;
+  }
+}
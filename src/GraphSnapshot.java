@@ -0,0 +1,106 @@
+import java.util.BitSet;
+
+/**
+ * One immutable version of a SnapshotGraph.
+ *
+ * A snapshot never changes after it is published, so any number of threads may query it at the
+ * same time without locks while the writer goes on editing and publishing newer versions. Vertices
+ * are identified by dense ids 0..vertexCount()-1, and the neighbors of each vertex are held in an
+ * exactly sized int array that is never written again once a snapshot can see it.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class GraphSnapshot<T> {
+  private final long version;
+  private final int vertexCount;
+  private final int[][] adjacency;
+  private final Object[] values;
+
+  GraphSnapshot(long version, int vertexCount, int[][] adjacency, Object[] values) {
+    this.version = version;
+    this.vertexCount = vertexCount;
+    this.adjacency = adjacency;
+    this.values = values;
+  }
+
+  /**
+   * @return The version number, starting at 0 and increased by one on every publish.
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * @return The number of vertices in this version.
+   */
+  public int vertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @return The number of outgoing edges of the vertex.
+   */
+  public int degree(int vertex) {
+    checkVertex(vertex);
+    return adjacency[vertex].length;
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @param index The position of the neighbor, from 0 to degree(vertex) - 1.
+   * @return The id of the index-th neighbor of the vertex.
+   */
+  public int neighbor(int vertex, int index) {
+    if(index < 0 || index >= degree(vertex)){
+      throw new IndexOutOfBoundsException("Neighbor index " + index + " out of range for vertex " + vertex);
+    }
+    return adjacency[vertex][index];
+  }
+
+  /**
+   * @param vertex A vertex id.
+   * @return The value held by the vertex.
+   */
+  @SuppressWarnings("unchecked")
+  public T value(int vertex) {
+    checkVertex(vertex);
+    return (T) values[vertex];
+  }
+
+  /**
+   * Visits every vertex reachable from the start vertex that is not already set in the visited
+   * bits, with the same order and semantics as CsrGraph.traverse.
+   *
+   * @param start The id to start from.
+   * @param visited The ids already reached; updated as the traversal proceeds.
+   * @param visitor The callback that receives each reached id.
+   * @return True if the traversal ran to completion, false if the visitor stopped it early.
+   */
+  public boolean traverse(int start, BitSet visited, CsrGraph.Visitor visitor) {
+    checkVertex(start);
+    if(visited.get(start)) return true;
+    visited.set(start);
+    if(!visitor.visit(start)) return false;
+
+    int[] stack = new int[vertexCount];
+    int size = 0;
+    stack[size++] = start;
+    while(size > 0){
+      int current = stack[--size];
+      for(int neighbor : adjacency[current]){
+        if(visited.get(neighbor) || !visitor.follow(current, neighbor)) continue;
+        visited.set(neighbor);
+        if(!visitor.visit(neighbor)) return false;
+        stack[size++] = neighbor;
+      }
+    }
+    return true;
+  }
+
+  private void checkVertex(int vertex) {
+    if(vertex < 0 || vertex >= vertexCount){
+      throw new IndexOutOfBoundsException("Vertex id " + vertex + " out of range for graph of " + vertexCount + " vertices");
+    }
+  }
+}
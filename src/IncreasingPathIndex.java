@@ -0,0 +1,242 @@
+import java.util.Arrays;
+
+/**
+ * A precomputed index that answers strictly-increasing-path queries without a full traversal.
+ *
+ * Edges that go from a smaller to a strictly larger value form a DAG, and every strictly increasing
+ * path is a path in that DAG. The index freezes the graph reachable from a root, extracts that DAG,
+ * and labels its vertices so that most queries are answered in constant time:
+ * <ul>
+ *   <li>a value check: a path can only exist if the end value is larger than the start value;</li>
+ *   <li>a positive cut: pre-order intervals of a spanning forest of the DAG, so that any descendant
+ *       in the forest is known to be reachable;</li>
+ *   <li>negative cuts: two GRAIL-style interval labels [lowest reachable post-order, post-order],
+ *       from depth-first orders with opposite child orders, so that a vertex whose interval does not
+ *       contain the target's interval cannot reach it.</li>
+ * </ul>
+ * Queries the labels cannot settle fall back to a depth-first search of the DAG that is pruned by
+ * the same three checks at every step.
+ *
+ * The index reflects the graph as it was when it was built. Queries involving vertices added
+ * afterwards are answered by Practice's depth-first search instead. Queries share reusable visited
+ * marks, so an index must not be queried by more than one thread at a time.
+ */
+public final class IncreasingPathIndex {
+  private final VertexIndex<Integer> vertices;
+  private final int[] values;
+  private final int[] offsets;
+  private final int[] targets;
+  private final int[] pre;
+  private final int[] last;
+  private final int[] post;
+  private final int[] low;
+  private final int[] reversePost;
+  private final int[] reverseLow;
+  private final int[] stamps;
+  private final int[] stack;
+  private int epoch;
+  private final long buildNanos;
+
+  private IncreasingPathIndex(Vertex<Integer> root) {
+    long begin = System.nanoTime();
+    vertices = VertexIndex.freeze(root);
+    CsrGraph<Integer> graph = CsrGraph.ofInts(vertices);
+    int n = graph.vertexCount();
+
+    values = new int[n];
+    for(int v = 0; v < n; v++){
+      values[v] = graph.intValue(v);
+    }
+
+    // Keep only the increasing edges; they form a DAG with ascending value as a topological order.
+    int[] graphOffsets = graph.offsets();
+    int[] graphTargets = graph.targets();
+    offsets = new int[n + 1];
+    int[] kept = new int[graphTargets.length];
+    int edges = 0;
+    for(int v = 0; v < n; v++){
+      for(int edge = graphOffsets[v]; edge < graphOffsets[v + 1]; edge++){
+        int w = graphTargets[edge];
+        if(values[w] > values[v]) kept[edges++] = w;
+      }
+      offsets[v + 1] = edges;
+    }
+    targets = Arrays.copyOf(kept, edges);
+
+    long[] byValue = new long[n];
+    for(int v = 0; v < n; v++){
+      byValue[v] = (long) values[v] << 32 | v;
+    }
+    Arrays.sort(byValue);
+    int[] topological = new int[n];
+    for(int i = 0; i < n; i++){
+      topological[i] = (int) byValue[i];
+    }
+
+    pre = new int[n];
+    last = new int[n];
+    post = new int[n];
+    reversePost = new int[n];
+    stack = new int[n];
+    number(topological, false, pre, last, post);
+    number(topological, true, null, null, reversePost);
+    low = lowest(topological, post);
+    reverseLow = lowest(topological, reversePost);
+
+    stamps = new int[n];
+    buildNanos = System.nanoTime() - begin;
+  }
+
+  /**
+   * Builds an index over every vertex reachable from the given root.
+   *
+   * @param root The vertex to index from.
+   * @return The index.
+   * @throws NullPointerException if root is null or any reachable vertex holds a null value.
+   */
+  public static IncreasingPathIndex build(Vertex<Integer> root) {
+    if(root == null){
+      throw new NullPointerException("Root cannot be null.");
+    }
+    return new IncreasingPathIndex(root);
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path from the given start vertex to the
+   * target vertex, with the same semantics as Practice.hasStrictlyIncreasingPath.
+   *
+   * @param start The starting vertex.
+   * @param end The target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws NullPointerException if either start or end is null.
+   */
+  public boolean hasStrictlyIncreasingPath(Vertex<Integer> start, Vertex<Integer> end) {
+    if(start == null|| end == null){
+      throw new NullPointerException("Start or end cannot be null.");
+    }
+    int s = vertices.idOf(start);
+    int e = vertices.idOf(end);
+    if(s < 0 || e < 0){
+      return new Practice().hasStrictlyIncreasingPath(start, end);
+    }
+    return reaches(s, e);
+  }
+
+  /**
+   * @return The number of indexed vertices.
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * @return The time it took to build the index, in nanoseconds.
+   */
+  public long buildNanos() {
+    return buildNanos;
+  }
+
+  /**
+   * Estimates the heap retained by the index: its int arrays plus one reference per vertex in the
+   * underlying VertexIndex. The Vertex objects themselves are not counted.
+   *
+   * @return The estimated footprint in bytes.
+   */
+  public long memoryBytes() {
+    long ints = values.length + offsets.length + targets.length + pre.length + last.length + post.length
+        + low.length + reversePost.length + reverseLow.length + stamps.length + stack.length;
+    return ints * Integer.BYTES + (long) vertices.size() * 8;
+  }
+
+  private boolean reaches(int s, int e) {
+    if(s == e) return true;
+    if(values[e] <= values[s]) return false;
+    if(inSubtree(s, e)) return true;
+    if(!labelsContain(s, e)) return false;
+
+    if(++epoch == 0){
+      Arrays.fill(stamps, 0);
+      epoch = 1;
+    }
+    stamps[s] = epoch;
+    int size = 0;
+    stack[size++] = s;
+    while(size > 0){
+      int v = stack[--size];
+      for(int edge = offsets[v], end = offsets[v + 1]; edge < end; edge++){
+        int w = targets[edge];
+        if(stamps[w] == epoch) continue;
+        stamps[w] = epoch;
+        if(w == e || inSubtree(w, e)) return true;
+        if(values[w] >= values[e] || !labelsContain(w, e)) continue;
+        stack[size++] = w;
+      }
+    }
+    return false;
+  }
+
+  private boolean inSubtree(int ancestor, int v) {
+    return pre[ancestor] <= pre[v] && pre[v] <= last[ancestor];
+  }
+
+  private boolean labelsContain(int s, int e) {
+    return low[s] <= low[e] && post[e] <= post[s]
+        && reverseLow[s] <= reverseLow[e] && reversePost[e] <= reversePost[s];
+  }
+
+  /**
+   * Numbers the DAG with an iterative depth-first search, starting new trees from roots in the given
+   * order. Fills pre-order numbers and the largest pre-order number in each subtree when those arrays
+   * are given, and post-order numbers always.
+   */
+  private void number(int[] roots, boolean reverse, int[] pre, int[] last, int[] post) {
+    int n = values.length;
+    int[] cursor = new int[n];
+    boolean[] seen = new boolean[n];
+    int preCount = 0;
+    int postCount = 0;
+    for(int r = 0; r < n; r++){
+      int root = roots[reverse ? n - 1 - r : r];
+      if(seen[root]) continue;
+      seen[root] = true;
+      if(pre != null) pre[root] = preCount++;
+      cursor[root] = reverse ? offsets[root + 1] - 1 : offsets[root];
+      int size = 0;
+      stack[size++] = root;
+      while(size > 0){
+        int v = stack[size - 1];
+        boolean more = reverse ? cursor[v] >= offsets[v] : cursor[v] < offsets[v + 1];
+        if(more){
+          int w = targets[cursor[v]];
+          cursor[v] += reverse ? -1 : 1;
+          if(seen[w]) continue;
+          seen[w] = true;
+          if(pre != null) pre[w] = preCount++;
+          cursor[w] = reverse ? offsets[w + 1] - 1 : offsets[w];
+          stack[size++] = w;
+        } else {
+          size--;
+          if(last != null) last[v] = preCount - 1;
+          post[v] = postCount++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes, for every vertex, the lowest post-order number among the vertices it can reach,
+   * visiting vertices from largest to smallest value so successors are always done first.
+   */
+  private int[] lowest(int[] topological, int[] post) {
+    int[] low = new int[values.length];
+    for(int i = topological.length - 1; i >= 0; i--){
+      int v = topological[i];
+      int min = post[v];
+      for(int edge = offsets[v]; edge < offsets[v + 1]; edge++){
+        min = Math.min(min, low[targets[edge]]);
+      }
+      low[v] = min;
+    }
+    return low;
+  }
+}
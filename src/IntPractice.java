@@ -0,0 +1,120 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The reachable, max and hasStrictlyIncreasingPath operations of Practice, specialized for
+ * IntVertex graphs so that no value is ever boxed.
+ *
+ * Each operation has the same contract as its Practice counterpart, including null handling.
+ * Visited vertices are tracked in an identity set backed by IdentityHashMap, whose open-addressing
+ * table allocates no per-entry objects, and the depth-first stack is a plain IntVertex array.
+ * An IntPractice holds no state and may be shared between threads.
+ */
+public class IntPractice {
+
+  /**
+   * Returns a set of all vertices reachable from the given starting vertex,
+   * including the starting vertex itself.
+   *
+   * If the given vertex is null, an empty set is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return A set containing all reachable vertices, or an empty set if vertex is null.
+   */
+  public Set<IntVertex> reachable(IntVertex vertex) {
+    Set<IntVertex> reachable = identitySet();
+    if(vertex == null) return reachable;
+
+    reachable.add(vertex);
+    IntVertex[] stack = new IntVertex[16];
+    int size = 0;
+    stack[size++] = vertex;
+    while(size > 0){
+      IntVertex current = stack[--size];
+      IntVertex[] neighbors = current.neighbors;
+      for(int i = 0, degree = current.degree; i < degree; i++){
+        IntVertex neighbor = neighbors[i];
+        if(!reachable.add(neighbor)) continue;
+        if(size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+        stack[size++] = neighbor;
+      }
+    }
+    return reachable;
+  }
+
+  /**
+   * Returns the maximum value among all vertices reachable from the given starting vertex,
+   * including the starting vertex itself.
+   *
+   * If the given vertex is null, the method returns Integer.MIN_VALUE.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return The maximum value of any reachable vertex, or Integer.MIN_VALUE if vertex is null.
+   */
+  public int max(IntVertex vertex) {
+    if(vertex == null) return Integer.MIN_VALUE;
+
+    Set<IntVertex> visited = identitySet();
+    visited.add(vertex);
+    int max = vertex.data;
+    IntVertex[] stack = new IntVertex[16];
+    int size = 0;
+    stack[size++] = vertex;
+    while(size > 0){
+      IntVertex current = stack[--size];
+      IntVertex[] neighbors = current.neighbors;
+      for(int i = 0, degree = current.degree; i < degree; i++){
+        IntVertex neighbor = neighbors[i];
+        if(!visited.add(neighbor)) continue;
+        if(neighbor.data > max) max = neighbor.data;
+        if(size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+        stack[size++] = neighbor;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path from the given start vertex
+   * to the target vertex, with the same semantics and pruning as
+   * Practice.hasStrictlyIncreasingPath(Vertex, Vertex).
+   *
+   * @param start The starting vertex.
+   * @param end The target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws NullPointerException if either start or end is null.
+   */
+  public boolean hasStrictlyIncreasingPath(IntVertex start, IntVertex end) {
+    if(start == null|| end == null){
+      throw new NullPointerException("Start or end cannot be null.");
+    }
+    if(start == end) return true;
+
+    int high = end.data;
+    Set<IntVertex> visited = identitySet();
+    visited.add(start);
+    IntVertex[] stack = new IntVertex[16];
+    int size = 0;
+    stack[size++] = start;
+    while(size > 0){
+      IntVertex current = stack[--size];
+      IntVertex[] neighbors = current.neighbors;
+      for(int i = 0, degree = current.degree; i < degree; i++){
+        IntVertex neighbor = neighbors[i];
+        int value = neighbor.data;
+        if(value <= current.data) continue;
+        if(neighbor == end) return true;
+        if(value >= high || !visited.add(neighbor)) continue;
+        if(size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+        stack[size++] = neighbor;
+      }
+    }
+    return false;
+  }
+
+  private static Set<IntVertex> identitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+}
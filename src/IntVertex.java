@@ -0,0 +1,95 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A vertex holding a primitive int value, with its neighbors in a plain array.
+ *
+ * A Vertex&lt;Integer&gt; keeps an Integer object for its value and an ArrayList for its neighbors,
+ * so every hop of a traversal goes through two extra objects and every comparison unboxes. An
+ * IntVertex stores both inline, which is what IntPractice relies on to answer max and path
+ * queries without touching an Integer.
+ *
+ * Null neighbors are not allowed.
+ */
+public final class IntVertex {
+  private static final IntVertex[] NO_NEIGHBORS = new IntVertex[0];
+
+  int data;
+  IntVertex[] neighbors = NO_NEIGHBORS;
+  int degree;
+
+  public IntVertex(int data) {
+    this.data = data;
+  }
+
+  /**
+   * @return The value held by this vertex.
+   */
+  public int data() {
+    return data;
+  }
+
+  /**
+   * @return The number of outgoing edges.
+   */
+  public int degree() {
+    return degree;
+  }
+
+  /**
+   * @param index The position of the neighbor, from 0 to degree() - 1.
+   * @return The index-th neighbor.
+   */
+  public IntVertex neighbor(int index) {
+    if(index < 0 || index >= degree){
+      throw new IndexOutOfBoundsException("Neighbor index " + index + " out of range for degree " + degree);
+    }
+    return neighbors[index];
+  }
+
+  /**
+   * Adds an edge from this vertex to the given one, growing the neighbor array if needed.
+   *
+   * @param neighbor The target of the edge.
+   * @throws NullPointerException if neighbor is null.
+   */
+  public void addNeighbor(IntVertex neighbor) {
+    if(neighbor == null){
+      throw new NullPointerException("Neighbor cannot be null.");
+    }
+    if(degree == neighbors.length){
+      neighbors = Arrays.copyOf(neighbors, Math.max(4, degree * 2));
+    }
+    neighbors[degree++] = neighbor;
+  }
+
+  /**
+   * Copies every vertex reachable from the given root into IntVertex form, keeping all edges.
+   * Null neighbor entries of the original are dropped.
+   *
+   * @param root The vertex to copy from.
+   * @return The copies in CsrGraph id order, so the copy of root comes first.
+   * @throws NullPointerException if root is null or any reachable vertex holds a null value.
+   */
+  public static List<IntVertex> copyOf(Vertex<Integer> root) {
+    CsrGraph<Integer> graph = CsrGraph.ofInts(root);
+    int[] offsets = graph.offsets();
+    int[] targets = graph.targets();
+    int n = graph.vertexCount();
+
+    List<IntVertex> copies = new ArrayList<>(n);
+    for(int id = 0; id < n; id++){
+      copies.add(new IntVertex(graph.intValue(id)));
+    }
+    for(int id = 0; id < n; id++){
+      IntVertex copy = copies.get(id);
+      copy.degree = offsets[id + 1] - offsets[id];
+      copy.neighbors = copy.degree == 0 ? NO_NEIGHBORS : new IntVertex[copy.degree];
+      for(int edge = offsets[id]; edge < offsets[id + 1]; edge++){
+        copy.neighbors[edge - offsets[id]] = copies.get(targets[edge]);
+      }
+    }
+    return copies;
+  }
+}
@@ -0,0 +1,266 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Answers many reachability queries against the same CsrGraph in shared passes, in the style of
+ * the bit-parallel multi-source BFS of Then et al.
+ *
+ * Up to 64 distinct sources are traversed at once. Every vertex carries a long whose bit i records
+ * that source i has reached it, so one scan of an edge u -> v forwards every source that has
+ * reached u and not yet v with a single and-not. Sources whose reachable sets overlap, which is most
+ * of them in a connected graph, share nearly all of their edge scans: a batch of 64 sources costs
+ * little more than one traversal instead of 64.
+ *
+ * The propagation keeps a queue of vertices holding bits they have not yet forwarded. A vertex is
+ * queued at most once at a time and forwards everything it has gathered when it is dequeued, so
+ * bits that arrive close together travel together.
+ */
+public final class MultiSourceTraversal {
+  private static final int BATCH = Long.SIZE;
+
+  private MultiSourceTraversal() {
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from each of the given sources, including the
+   * source itself.
+   *
+   * @param graph The graph to traverse.
+   * @param sources The ids of the starting vertices; repeated ids are traversed once.
+   * @return One bit set per source, in the same order as sources.
+   * @throws NullPointerException if graph or sources is null.
+   * @throws IndexOutOfBoundsException if a source is not a valid id in the graph.
+   */
+  public static BitSet[] reachable(CsrGraph<?> graph, int[] sources) {
+    int[] distinct = distinct(graph, sources);
+    if(distinct.length == 1){
+      // One source gains nothing from bit words; the plain traversal allocates less.
+      BitSet reached = new BitSet(graph.vertexCount());
+      graph.traverse(distinct[0], reached, vertex -> true);
+      BitSet[] result = new BitSet[sources.length];
+      Arrays.setAll(result, i -> i == 0 ? reached : (BitSet) reached.clone());
+      return result;
+    }
+    BitSet[] bySource = new BitSet[graph.vertexCount()];
+    Propagation propagation = new Propagation(graph, null);
+
+    for(int from = 0; from < distinct.length; from += BATCH){
+      int size = Math.min(BATCH, distinct.length - from);
+      propagation.run(distinct, from, size, null, 0);
+      BitSet[] batch = propagation.split(size);
+      for(int slot = 0; slot < size; slot++){
+        bySource[distinct[from + slot]] = batch[slot];
+      }
+    }
+
+    BitSet[] result = new BitSet[sources.length];
+    BitSet handedOut = new BitSet(graph.vertexCount());
+    for(int i = 0; i < sources.length; i++){
+      // Repeated sources get their own copy, so callers may modify any result freely.
+      BitSet reached = bySource[sources[i]];
+      result[i] = handedOut.get(sources[i]) ? (BitSet) reached.clone() : reached;
+      handedOut.set(sources[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Determines, for each (starts[i], ends[i]) pair, whether a strictly increasing path leads from
+   * the start to the end, with the same semantics as
+   * Practice.hasStrictlyIncreasingPath(CsrGraph, int, int).
+   *
+   * Pairs sharing a start share one traversal, and a batch stops as soon as all of its pairs are
+   * answered.
+   *
+   * @param graph The graph to search.
+   * @param starts The ids of the starting vertices.
+   * @param ends The ids of the target vertices, one per start.
+   * @return One answer per pair, in the same order as the pairs.
+   * @throws NullPointerException if graph, starts or ends is null.
+   * @throws IllegalArgumentException if starts and ends differ in length.
+   * @throws IndexOutOfBoundsException if a start or end is not a valid id in the graph.
+   */
+  public static boolean[] hasStrictlyIncreasingPaths(CsrGraph<Integer> graph, int[] starts, int[] ends) {
+    if(ends == null){
+      throw new NullPointerException("Ends cannot be null.");
+    }
+    int[] distinct = distinct(graph, starts);
+    if(starts.length != ends.length){
+      throw new IllegalArgumentException("Starts and ends must have the same length: " + starts.length + " != " + ends.length);
+    }
+    for(int end : ends){
+      checkVertex(graph, end);
+    }
+
+    int n = graph.vertexCount();
+    int[] values = new int[n];
+    for(int vertex = 0; vertex < n; vertex++){
+      values[vertex] = graph.intValue(vertex);
+    }
+    int[] slotOf = new int[n];
+    Arrays.fill(slotOf, -1);
+    Propagation propagation = new Propagation(graph, values);
+    long[] wanted = new long[n];
+    boolean[] answers = new boolean[starts.length];
+
+    for(int from = 0; from < distinct.length; from += BATCH){
+      int size = Math.min(BATCH, distinct.length - from);
+      for(int slot = 0; slot < size; slot++){
+        slotOf[distinct[from + slot]] = slot;
+      }
+      int open = 0;
+      for(int i = 0; i < starts.length; i++){
+        int slot = slotOf[starts[i]];
+        if(slot < 0) continue;
+        long bit = 1L << slot;
+        if((wanted[ends[i]] & bit) == 0){
+          wanted[ends[i]] |= bit;
+          open++;
+        }
+      }
+
+      long[] seen = propagation.run(distinct, from, size, wanted, open);
+      for(int i = 0; i < starts.length; i++){
+        int slot = slotOf[starts[i]];
+        if(slot >= 0) answers[i] = (seen[ends[i]] & 1L << slot) != 0;
+      }
+      for(int i = 0; i < starts.length; i++){
+        wanted[ends[i]] = 0;
+      }
+      for(int slot = 0; slot < size; slot++){
+        slotOf[distinct[from + slot]] = -1;
+      }
+    }
+    return answers;
+  }
+
+  private static int[] distinct(CsrGraph<?> graph, int[] sources) {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    if(sources == null){
+      throw new NullPointerException("Sources cannot be null.");
+    }
+    BitSet present = new BitSet(graph.vertexCount());
+    for(int source : sources){
+      checkVertex(graph, source);
+      present.set(source);
+    }
+    return present.stream().toArray();
+  }
+
+  private static void checkVertex(CsrGraph<?> graph, int vertex) {
+    if(vertex < 0 || vertex >= graph.vertexCount()){
+      throw new IndexOutOfBoundsException("Vertex id " + vertex + " out of range for graph of " + graph.vertexCount() + " vertices");
+    }
+  }
+
+  /**
+   * The per-vertex bit words and work queue of one multi-source traversal, reused across batches.
+   * Only the vertices a batch touched are cleared before the next one, so a batch whose sources
+   * reach little of the graph costs little.
+   */
+  private static final class Propagation {
+    private final int[] offsets;
+    private final int[] targets;
+    /** When not null, an edge is only followed if its target's value is above its source's. */
+    private final int[] values;
+    private final long[] seen;
+    private final long[] pending;
+    private final int[] queue;
+    /** The vertices reached by the last run, in the order they were first reached. */
+    private final int[] touched;
+    private int touchedCount;
+
+    Propagation(CsrGraph<?> graph, int[] values) {
+      this.offsets = graph.offsets();
+      this.targets = graph.targets();
+      this.values = values;
+      this.seen = new long[graph.vertexCount()];
+      this.pending = new long[graph.vertexCount()];
+      this.queue = new int[graph.vertexCount()];
+      this.touched = new int[graph.vertexCount()];
+    }
+
+    /**
+     * Runs one batch. If wanted is not null, the run stops once open distinct (source, vertex)
+     * bits of wanted have been reached.
+     *
+     * @return The bit word of every vertex; bit i is set if sources[from + i] reaches it. Valid
+     *         until the next run.
+     */
+    long[] run(int[] sources, int from, int size, long[] wanted, int open) {
+      for(int i = 0; i < touchedCount; i++){
+        seen[touched[i]] = 0;
+      }
+      touchedCount = 0;
+      int n = queue.length;
+      int head = 0;
+      int tail = 0;
+      for(int slot = 0; slot < size; slot++){
+        int source = sources[from + slot];
+        long bit = 1L << slot;
+        seen[source] = bit;
+        pending[source] = bit;
+        queue[tail++] = source;
+        touched[touchedCount++] = source;
+        if(wanted != null && (wanted[source] & bit) != 0) open--;
+      }
+      if(tail == n) tail = 0;
+      int queued = size;
+
+      while(queued > 0 && (wanted == null || open > 0)){
+        int current = queue[head];
+        head = head + 1 == n ? 0 : head + 1;
+        queued--;
+        long bits = pending[current];
+        pending[current] = 0;
+
+        for(int edge = offsets[current], end = offsets[current + 1]; edge < end; edge++){
+          int neighbor = targets[edge];
+          long reached = seen[neighbor];
+          long fresh = bits & ~reached;
+          if(fresh == 0 || values != null && values[neighbor] <= values[current]) continue;
+          if(reached == 0) touched[touchedCount++] = neighbor;
+          seen[neighbor] = reached | fresh;
+          if(wanted != null) open -= Long.bitCount(fresh & wanted[neighbor]);
+          if(pending[neighbor] == 0){
+            queue[tail] = neighbor;
+            tail = tail + 1 == n ? 0 : tail + 1;
+            queued++;
+          }
+          pending[neighbor] |= fresh;
+        }
+      }
+      // An early stop leaves bits behind; clear them so the next batch starts clean.
+      while(queued > 0){
+        pending[queue[head]] = 0;
+        head = head + 1 == n ? 0 : head + 1;
+        queued--;
+      }
+      return seen;
+    }
+
+    /**
+     * Spreads the bit words of the last run into one bit set per source.
+     *
+     * @param size The number of sources in the last run.
+     * @return The reached vertices of each source, by slot.
+     */
+    BitSet[] split(int size) {
+      long[][] words = new long[size][(seen.length + Long.SIZE - 1) / Long.SIZE];
+      for(int i = 0; i < touchedCount; i++){
+        int vertex = touched[i];
+        long bit = 1L << vertex;
+        for(long bits = seen[vertex]; bits != 0; bits &= bits - 1){
+          words[Long.numberOfTrailingZeros(bits)][vertex >>> 6] |= bit;
+        }
+      }
+      BitSet[] reached = new BitSet[size];
+      for(int slot = 0; slot < size; slot++){
+        reached[slot] = BitSet.valueOf(words[slot]);
+      }
+      return reached;
+    }
+  }
+}
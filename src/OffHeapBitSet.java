@@ -0,0 +1,102 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * A fixed-size set of bits kept in direct memory, so that marking the vertices of a graph with
+ * hundreds of millions of ids neither grows the Java heap nor gives the garbage collector a large
+ * array to scan or copy.
+ *
+ * Bits are packed 64 to a long, as in java.util.BitSet. The memory is released when the set is
+ * garbage collected. An OffHeapBitSet is not thread-safe.
+ */
+public final class OffHeapBitSet {
+  private final int size;
+  private final LongBuffer words;
+
+  /**
+   * Creates a set of the given number of bits, all clear.
+   *
+   * @param size The number of bits.
+   * @throws IllegalArgumentException if size is negative.
+   */
+  public OffHeapBitSet(int size) {
+    if(size < 0){
+      throw new IllegalArgumentException("Size cannot be negative: " + size);
+    }
+    this.size = size;
+    this.words = ByteBuffer.allocateDirect(8 * ((size + 63) >>> 6)).order(ByteOrder.nativeOrder()).asLongBuffer();
+  }
+
+  /**
+   * @return The number of bits in the set.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index A bit index.
+   * @return True if the bit is set.
+   * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1.
+   */
+  public boolean get(int index) {
+    checkIndex(index);
+    return (words.get(index >>> 6) & 1L << index) != 0;
+  }
+
+  /**
+   * Sets a bit.
+   *
+   * @param index A bit index.
+   * @return True if the bit was clear before.
+   * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1.
+   */
+  public boolean set(int index) {
+    checkIndex(index);
+    int word = index >>> 6;
+    long bits = words.get(word);
+    long mask = 1L << index;
+    if((bits & mask) != 0) return false;
+    words.put(word, bits | mask);
+    return true;
+  }
+
+  /**
+   * Clears a bit.
+   *
+   * @param index A bit index.
+   * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1.
+   */
+  public void clear(int index) {
+    checkIndex(index);
+    int word = index >>> 6;
+    words.put(word, words.get(word) & ~(1L << index));
+  }
+
+  /**
+   * Clears every bit.
+   */
+  public void clear() {
+    for(int word = 0, count = words.capacity(); word < count; word++){
+      words.put(word, 0L);
+    }
+  }
+
+  /**
+   * @return The number of set bits.
+   */
+  public int cardinality() {
+    int count = 0;
+    for(int word = 0, words = this.words.capacity(); word < words; word++){
+      count += Long.bitCount(this.words.get(word));
+    }
+    return count;
+  }
+
+  private void checkIndex(int index) {
+    if(index < 0 || index >= size){
+      throw new IndexOutOfBoundsException("Bit index " + index + " out of range for set of " + size + " bits");
+    }
+  }
+}
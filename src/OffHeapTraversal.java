@@ -0,0 +1,167 @@
+import java.nio.IntBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The reachable, max, leaves and hasStrictlyIncreasingPath operations of Practice over a
+ * BinaryGraph, with every piece of traversal state kept in direct memory.
+ *
+ * A traversal owns an OffHeapBitSet of visited ids and a queue of reached ids, each sized for the
+ * graph and allocated once, so a query allocates nothing in proportion to the graph on the heap.
+ * The queue doubles as the record of what the last query reached: results are streamed straight
+ * from it, and only those bits are cleared before the next query, so a small query on a huge graph
+ * stays cheap. Searches run breadth-first; the sets of reached ids are the ones Practice finds.
+ *
+ * A stream returned by reachable or leaves reads the traversal's own memory, so it must be consumed
+ * before the next query on the same traversal, which otherwise makes it throw
+ * ConcurrentModificationException. An OffHeapTraversal is not thread-safe.
+ */
+public final class OffHeapTraversal {
+  private final BinaryGraph graph;
+  private final OffHeapBitSet visited;
+  private final IntBuffer queue;
+  private int reached;
+  private int generation;
+
+  /**
+   * Creates a traversal for the given graph, allocating its off-heap state.
+   *
+   * @param graph The graph to query; usually one created by BinaryGraph.offHeap.
+   * @throws NullPointerException if graph is null.
+   */
+  public OffHeapTraversal(BinaryGraph graph) {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    this.graph = graph;
+    this.visited = new OffHeapBitSet(graph.vertexCount());
+    this.queue = BinaryGraph.direct(graph.vertexCount());
+  }
+
+  /**
+   * @return The graph this traversal queries.
+   */
+  public BinaryGraph graph() {
+    return graph;
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from the given starting vertex, including the
+   * starting vertex itself, in breadth-first order.
+   *
+   * @param vertex The id of the starting vertex.
+   * @return A stream of every reachable id, valid until the next query on this traversal.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public IntStream reachable(int vertex) {
+    search(vertex, -1, Integer.MAX_VALUE);
+    return stream(false);
+  }
+
+  /**
+   * Returns the maximum value among all vertices reachable from the given starting vertex,
+   * including the starting vertex itself.
+   *
+   * @param vertex The id of the starting vertex.
+   * @return The maximum value of any reachable vertex.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public int max(int vertex) {
+    search(vertex, -1, Integer.MAX_VALUE);
+    int max = Integer.MIN_VALUE;
+    for(int i = 0; i < reached; i++){
+      max = Math.max(max, graph.value(queue.get(i)));
+    }
+    return max;
+  }
+
+  /**
+   * Returns the ids of all leaf vertices reachable from the given starting vertex. A vertex is
+   * considered a leaf if it has no outgoing edges.
+   *
+   * @param vertex The id of the starting vertex.
+   * @return A stream of every reachable leaf id, valid until the next query on this traversal.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public IntStream leaves(int vertex) {
+    search(vertex, -1, Integer.MAX_VALUE);
+    return stream(true);
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path between two vertices, with the
+   * same semantics as Practice.hasStrictlyIncreasingPath(Vertex, Vertex).
+   *
+   * @param start The id of the starting vertex.
+   * @param end The id of the target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws IndexOutOfBoundsException if start or end is not a valid id in the graph.
+   */
+  public boolean hasStrictlyIncreasingPath(int start, int end) {
+    int high = graph.intValue(end);
+    return search(start, end, high);
+  }
+
+  /**
+   * Runs a breadth-first search from start, recording every reached id in the queue. With a
+   * target, only increasing edges are followed, vertices whose value is not below high are not
+   * entered, and the search stops once the target is reached.
+   *
+   * @return True if target was reached.
+   */
+  private boolean search(int start, int target, int high) {
+    graph.intValue(start); // range check
+    for(int i = 0; i < reached; i++){
+      visited.clear(queue.get(i));
+    }
+    generation++;
+    reached = 0;
+
+    visited.set(start);
+    queue.put(reached++, start);
+    if(start == target) return true;
+    for(int head = 0; head < reached; head++){
+      int current = queue.get(head);
+      int value = graph.value(current);
+      for(int edge = graph.offset(current), end = graph.offset(current + 1); edge < end; edge++){
+        int neighbor = graph.target(edge);
+        if(target >= 0){
+          int next = graph.value(neighbor);
+          if(next <= value) continue;
+          if(neighbor == target) return true;
+          if(next >= high) continue;
+        }
+        if(!visited.set(neighbor)) continue;
+        queue.put(reached++, neighbor);
+      }
+    }
+    return false;
+  }
+
+  private IntStream stream(boolean leavesOnly) {
+    int expected = generation;
+    int count = reached;
+    Spliterator.OfInt ids = new Spliterators.AbstractIntSpliterator(count, Spliterator.DISTINCT | Spliterator.NONNULL) {
+      private int next;
+
+      @Override
+      public boolean tryAdvance(IntConsumer action) {
+        if(generation != expected){
+          throw new ConcurrentModificationException("The traversal was queried again before the stream was consumed.");
+        }
+        while(next < count){
+          int id = queue.get(next++);
+          if(leavesOnly && graph.offset(id) != graph.offset(id + 1)) continue;
+          action.accept(id);
+          return true;
+        }
+        return false;
+      }
+    };
+    return StreamSupport.intStream(ids, false);
+  }
+}
@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+/**
+ * A work-stealing, fork/join variant of the traversal engine.
+ *
+ * Each task drains its own Frontier. Whenever a task's frontier grows past a threshold while the
+ * pool is short of queued work, the older half of the frontier is split off into a new forked
+ * task that idle workers can steal. Vertices are claimed through a thread-safe VisitedSet, so
+ * every vertex is claimed, and passed to the collector, by exactly one task.
+ *
+ * Results are gathered with a standard Collector: every task accumulates into its own container
+ * and containers are combined as tasks are joined, so no shared result structure is contended.
+ */
+public final class ParallelTraversal {
+  private static final int SPLIT_THRESHOLD = 32;
+  private static final int MAX_SURPLUS_TASKS = 2;
+
+  private static final Collector<Object, ?, Void> DISCARD =
+      Collector.of(() -> null, (ignored, vertex) -> {}, (left, right) -> null);
+
+  private ParallelTraversal() {
+  }
+
+  /**
+   * Claims every vertex reachable from the start vertex in the visited set, in parallel.
+   * The visited set must be safe for concurrent use.
+   *
+   * @param start The vertex to start from. If null, nothing is claimed.
+   * @param visited A thread-safe visited set; updated as the traversal proceeds.
+   * @param pool The pool that runs the traversal.
+   */
+  public static <T> void traverse(Vertex<T> start, VisitedSet<T> visited, ForkJoinPool pool) {
+    collect(start, visited, pool, DISCARD);
+  }
+
+  /**
+   * Claims every vertex reachable from the start vertex in the visited set, in parallel, and
+   * feeds each newly claimed vertex to the collector. The visited set must be safe for
+   * concurrent use; the collector's containers are only ever touched by one task at a time.
+   *
+   * @param start The vertex to start from. If null, the collector receives no vertices.
+   * @param visited A thread-safe visited set; updated as the traversal proceeds.
+   * @param pool The pool that runs the traversal.
+   * @param collector Accumulates the claimed vertices into a result.
+   * @return The collector's result.
+   * @throws NullPointerException if pool or collector is null.
+   */
+  public static <T, A, R> R collect(Vertex<T> start, VisitedSet<T> visited, ForkJoinPool pool,
+                                    Collector<? super Vertex<T>, A, R> collector) {
+    if(pool == null || collector == null){
+      throw new NullPointerException("Pool and collector cannot be null.");
+    }
+    Frontier<Vertex<T>> frontier = new Frontier<>();
+    if(start != null && visited.add(start)){
+      frontier.push(start);
+    }
+    A result = pool.invoke(new Task<>(frontier, visited, collector));
+    return collector.finisher().apply(result);
+  }
+
+  private static final class Task<T, A> extends RecursiveTask<A> {
+    private static final long serialVersionUID = 1L;
+
+    private final Frontier<Vertex<T>> stack;
+    private final VisitedSet<T> visited;
+    private final Collector<? super Vertex<T>, A, ?> collector;
+
+    Task(Frontier<Vertex<T>> stack, VisitedSet<T> visited, Collector<? super Vertex<T>, A, ?> collector) {
+      this.stack = stack;
+      this.visited = visited;
+      this.collector = collector;
+    }
+
+    @Override
+    protected A compute() {
+      A container = collector.supplier().get();
+      BiConsumer<A, ? super Vertex<T>> accumulator = collector.accumulator();
+      List<Task<T, A>> forks = null;
+
+      while(!stack.isEmpty()){
+        Vertex<T> current = stack.pop();
+        accumulator.accept(container, current);
+
+        List<Vertex<T>> neighbors = current.neighbors;
+        if(neighbors != null){
+          for(Vertex<T> neighbor : neighbors){
+            if(neighbor != null && visited.add(neighbor)) stack.push(neighbor);
+          }
+        }
+
+        if(stack.size() > SPLIT_THRESHOLD && getSurplusQueuedTaskCount() < MAX_SURPLUS_TASKS){
+          Task<T, A> fork = new Task<>(stack.split(), visited, collector);
+          fork.fork();
+          if(forks == null) forks = new ArrayList<>();
+          forks.add(fork);
+        }
+      }
+
+      if(forks != null){
+        for(int i = forks.size() - 1; i >= 0; i--){
+          container = collector.combiner().apply(container, forks.get(i).join());
+        }
+      }
+      return container;
+    }
+  }
+}
@@ -1,10 +1,101 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A utility class providing various graph traversal methods using DFS.
+ *
+ * Every traversal runs on the explicit stack of a TraversalEngine rather than on the call stack,
+ * so arbitrarily deep graphs (for example long chains) can be processed without StackOverflowError.
+ *
+ * A Practice created without arguments allocates a HashSet to track visited vertices on every call
+ * and may be shared between threads. A Practice bound to a VertexIndex instead tracks visited vertices
+ * in the index's epoch-stamped marks and reuses a single engine, so repeated queries on the frozen
+ * graph allocate no visited state; a bound Practice must only be used by one thread at a time.
+ *
+ * Either kind may be given a TraversalMetrics, which then records the cost of every traversal run
+ * on the engine.
  */
 public class Practice {
+  private final VertexIndex<?> index;
+  private final TraversalEngine engine;
+  private final TraversalMetrics metrics;
+  private BreadthFirstTraversal breadthFirst;
+  private long breadthFirstVersion = -1;
+
+  /**
+   * Creates a Practice whose traversals track visited vertices in a fresh HashSet per call.
+   */
+  public Practice() {
+    this.index = null;
+    this.engine = null;
+    this.metrics = null;
+  }
+
+  /**
+   * Creates a Practice like Practice() that records the cost of every traversal.
+   *
+   * @param metrics Where to record each traversal.
+   * @throws NullPointerException if metrics is null.
+   */
+  public Practice(TraversalMetrics metrics) {
+    if(metrics == null){
+      throw new NullPointerException("Metrics cannot be null.");
+    }
+    this.index = null;
+    this.engine = null;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Creates a Practice bound to a frozen graph. Vertices that are not part of the index are still
+   * handled correctly, through a hash-based fallback.
+   *
+   * @param index The index whose visited marks every traversal reuses.
+   * @throws NullPointerException if index is null.
+   */
+  public Practice(VertexIndex<?> index) {
+    if(index == null){
+      throw new NullPointerException("Index cannot be null.");
+    }
+    this.index = index;
+    this.engine = new TraversalEngine();
+    this.metrics = null;
+  }
+
+  /**
+   * Creates a Practice bound to a frozen graph, like Practice(VertexIndex), that records the cost
+   * of every traversal.
+   *
+   * @param index The index whose visited marks every traversal reuses.
+   * @param metrics Where to record each traversal.
+   * @throws NullPointerException if index or metrics is null.
+   */
+  public Practice(VertexIndex<?> index, TraversalMetrics metrics) {
+    if(index == null || metrics == null){
+      throw new NullPointerException("Index or metrics cannot be null.");
+    }
+    this.index = index;
+    this.engine = new TraversalEngine(metrics);
+    this.metrics = metrics;
+  }
 
   /**
    * Prints the value of every vertex reachable from the given starting vertex,
@@ -21,22 +112,152 @@ public class Practice {
   public <T> void printVertexVals(Vertex<T> vertex) {
     if(vertex == null)return;
 
-    Set<Vertex<T>> visited = new HashSet<>();
-
-    printVals(vertex, visited);
+    engine().traverse(vertex, visited(), current -> {
+      System.out.println(current.data);
+      return true;
+    });
   }
-  private <T> void printVals(Vertex<T> vertex, Set<Vertex<T>> visited){
+
+  /**
+   * Prints the value of every vertex reachable from the given starting vertex, exploring the
+   * graph with the given strategy. The set of printed values is the same for every strategy;
+   * only the order and the amount of work differ.
+   *
+   * If the given vertex is null, this method prints nothing.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param strategy The traversal strategy to use.
+   * @throws NullPointerException if strategy is null.
+   */
+  public <T> void printVertexVals(Vertex<T> vertex, TraversalStrategy strategy) {
+    if(strategy == null){
+      throw new NullPointerException("Strategy cannot be null.");
+    }
     if(vertex == null) return;
-    if(visited.contains(vertex)) return;
 
-    System.out.println(vertex.data);
-    visited.add(vertex);
+    traverse(vertex, visited(), current -> {
+      System.out.println(current.data);
+      return true;
+    }, strategy);
+  }
 
-    if(vertex.neighbors != null){
-      for(Vertex<T> neighbor : vertex.neighbors){
-        printVals(neighbor, visited);
-      }
+  /**
+   * Prints the value of every vertex within the given limit of the starting vertex, nearest first,
+   * one value per line.
+   *
+   * If the given vertex is null, this method prints nothing.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param limit The largest depth and number of vertices to print.
+   * @return The number of values printed, and whether the limit left any reachable vertex out.
+   * @throws NullPointerException if limit is null.
+   */
+  public <T> BoundedResult<Integer> printVertexVals(Vertex<T> vertex, TraversalLimit limit) {
+    int[] printed = {0};
+    boolean truncated = traverseWithin(vertex, limit, current -> {
+      System.out.println(current.data);
+      printed[0]++;
+      return true;
+    });
+    return new BoundedResult<>(printed[0], truncated);
+  }
+
+  /**
+   * Writes the value of every reachable vertex to the given Appendable, such as a Writer, one value
+   * per line, through a buffer of ValuePrinter.DEFAULT_BUFFER_SIZE chars. The target is written in
+   * bulk rather than once per vertex, and flushed once the traversal is done if it is Flushable.
+   *
+   * If the given vertex is null, this method writes nothing.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param out The target to write to.
+   * @throws IOException if writing to the target fails.
+   */
+  public <T> void printVertexVals(Vertex<T> vertex, Appendable out) throws IOException {
+    printVertexVals(vertex, new ValuePrinter(out));
+  }
+
+  /**
+   * Writes the value of every reachable vertex to the given channel as UTF-8 text, one value per
+   * line, through a buffer of ValuePrinter.DEFAULT_BUFFER_SIZE chars.
+   *
+   * If the given vertex is null, this method writes nothing.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param channel The channel to write to.
+   * @throws IOException if writing to the channel fails.
+   */
+  public <T> void printVertexVals(Vertex<T> vertex, WritableByteChannel channel) throws IOException {
+    printVertexVals(vertex, new ValuePrinter(channel));
+  }
+
+  /**
+   * Prints the value of every reachable vertex through the given printer, whose buffer size and
+   * flush policy decide when values reach its target. A printer can be reused across calls.
+   *
+   * If the given vertex is null, this method prints nothing.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param printer The printer to print through.
+   * @throws IOException if writing to the printer's target fails.
+   */
+  public <T> void printVertexVals(Vertex<T> vertex, ValuePrinter printer) throws IOException {
+    if(printer == null){
+      throw new NullPointerException("Printer cannot be null.");
+    }
+    try {
+      forEachVertexVal(vertex, value -> {
+        try {
+          printer.print(value);
+        } catch(IOException e){
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch(UncheckedIOException e){
+      throw e.getCause();
+    }
+    printer.endTraversal();
+  }
+
+  /**
+   * Passes the value of every vertex reachable from the given starting vertex to the given action,
+   * once per vertex, so values can be streamed into a downstream pipeline without being formatted.
+   *
+   * If the given vertex is null, the action is never called.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param action The action to apply to each value.
+   * @throws NullPointerException if action is null.
+   */
+  public <T> void forEachVertexVal(Vertex<T> vertex, Consumer<? super T> action) {
+    if(action == null){
+      throw new NullPointerException("Action cannot be null.");
     }
+    if(vertex == null) return;
+
+    engine().traverse(vertex, visited(), current -> {
+      action.accept(current.data);
+      return true;
+    });
+  }
+
+  /**
+   * Prints the value of every vertex reachable from the given starting vertex of a CSR graph,
+   * with the same semantics as printVertexVals(Vertex).
+   *
+   * If the given graph is null, this method prints nothing.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public <T> void printVertexVals(CsrGraph<T> graph, int vertex) {
+    if(graph == null) return;
+
+    graph.traverse(vertex, new BitSet(graph.vertexCount()), current -> {
+      System.out.println(graph.value(current));
+      return true;
+    });
   }
 
   /**
@@ -53,17 +274,244 @@ public class Practice {
 
     Set<Vertex<T>> reachable = new HashSet<>();
 
-    reachable(vertex, reachable);
+    if(index == null){
+      engine().traverse(vertex, reachable::add, current -> true);
+    } else {
+      engine().traverse(vertex, visited(), reachable::add);
+    }
+    return reachable;
+  }
+
+  /**
+   * Returns the vertices within the given limit of the starting vertex, including the starting
+   * vertex itself. A traversal cut short by the limit returns the vertices nearest the start.
+   *
+   * If the given vertex is null, an empty set is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param limit The largest depth and number of vertices to visit.
+   * @return The vertices reached, and whether the limit left any reachable vertex out.
+   * @throws NullPointerException if limit is null.
+   */
+  public <T> BoundedResult<Set<Vertex<T>>> reachable(Vertex<T> vertex, TraversalLimit limit) {
+    Set<Vertex<T>> reachable = new HashSet<>();
+    boolean truncated = traverseWithin(vertex, limit, reachable::add);
+    return new BoundedResult<>(reachable, truncated);
+  }
+
+  /**
+   * Returns a set of all vertices reachable from the given starting vertex, exploring the graph
+   * with the given strategy. The result is the same for every strategy.
+   *
+   * DIRECTION_OPTIMIZING runs on a CSR snapshot of the frozen graph when this Practice is bound to
+   * a VertexIndex that contains the starting vertex; otherwise it behaves like BFS. The snapshot is
+   * taken by the first such query and taken again by the first one after VertexIndex.invalidate,
+   * which must be called after editing the graph. While the graph has an edge to a vertex added
+   * after it was frozen, which no snapshot can hold, such queries are answered by BFS.
+   *
+   * If the given vertex is null, an empty set is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param strategy The traversal strategy to use.
+   * @return A set containing all reachable vertices, or an empty set if vertex is null.
+   * @throws NullPointerException if strategy is null.
+   */
+  public <T> Set<Vertex<T>> reachable(Vertex<T> vertex, TraversalStrategy strategy) {
+    if(strategy == null){
+      throw new NullPointerException("Strategy cannot be null.");
+    }
+    if(vertex == null) return new HashSet<>();
+
+    Set<Vertex<T>> reachable = new HashSet<>();
+
+    traverse(vertex, visited(), reachable::add, strategy);
     return reachable;
   }
-  private <T> void reachable(Vertex<T> vertex, Set<Vertex<T>> reachable){
-    if( vertex == null || reachable.contains(vertex)) return;
 
-    reachable.add(vertex);
-    if(vertex.neighbors == null) return;
-    for(Vertex<T> neighbor : vertex.neighbors){
-      reachable(neighbor, reachable);
+  /**
+   * Returns a lazy stream of all vertices reachable from the given starting vertex, including the
+   * starting vertex itself. Each vertex appears once. Vertices are discovered only as the stream is
+   * consumed, so short-circuiting operations such as limit, anyMatch and findFirst stop the traversal
+   * early, and memory is bounded by the vertices consumed plus the frontier rather than by the size
+   * of the component. The stream may be made parallel, in which case the frontier is split between
+   * threads.
+   *
+   * If the given vertex is null, an empty stream is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return A stream of all reachable vertices.
+   */
+  public <T> Stream<Vertex<T>> reachableStream(Vertex<T> vertex) {
+    return StreamSupport.stream(new ReachableSpliterator<>(vertex), false);
+  }
+
+  /**
+   * Returns a lazy iterator over all vertices reachable from the given starting vertex, including
+   * the starting vertex itself, with the same semantics as reachableStream.
+   *
+   * If the given vertex is null, an empty iterator is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @return An iterator over all reachable vertices.
+   */
+  public <T> Iterator<Vertex<T>> reachableIterator(Vertex<T> vertex) {
+    return Spliterators.iterator(new ReachableSpliterator<>(vertex));
+  }
+
+  /**
+   * Returns the same set as reachable(vertex), computed by a work-stealing traversal on the
+   * given pool. Vertices are claimed through a concurrent visited structure: an atomic bitset
+   * when this Practice is bound to a VertexIndex, and a concurrent hash set otherwise.
+   *
+   * If the given vertex is null, an empty set is returned.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param pool The pool that runs the traversal.
+   * @return A set containing all reachable vertices, or an empty set if vertex is null.
+   * @throws NullPointerException if pool is null.
+   */
+  public <T> Set<Vertex<T>> reachableParallel(Vertex<T> vertex, ForkJoinPool pool) {
+    if(pool == null){
+      throw new NullPointerException("Pool cannot be null.");
+    }
+    if(vertex == null) return new HashSet<>();
+
+    if(index == null){
+      Set<Vertex<T>> reachable = ConcurrentHashMap.newKeySet();
+      ParallelTraversal.traverse(vertex, reachable::add, pool);
+      return reachable;
+    }
+    return ParallelTraversal.collect(vertex, index.concurrentVisited(), pool, Collectors.toSet());
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from the given starting vertex of a CSR graph,
+   * including the starting vertex itself.
+   *
+   * If the given graph is null, an empty set is returned.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return A bit set with the id of every reachable vertex set.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public <T> BitSet reachable(CsrGraph<T> graph, int vertex) {
+    if(graph == null) return new BitSet();
+
+    BitSet reachable = new BitSet(graph.vertexCount());
+
+    graph.traverse(vertex, reachable, current -> true);
+    return reachable;
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from the given starting vertex of a memory-mapped
+   * graph, including the starting vertex itself.
+   *
+   * If the given graph is null, an empty set is returned.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return A bit set with the id of every reachable vertex set.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public BitSet reachable(BinaryGraph graph, int vertex) {
+    if(graph == null) return new BitSet();
+
+    BitSet reachable = new BitSet(graph.vertexCount());
+
+    graph.traverse(vertex, reachable, current -> true);
+    return reachable;
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from the given starting vertex of a published graph
+   * snapshot, including the starting vertex itself. Edits published while the traversal runs are
+   * not seen.
+   *
+   * If the given snapshot is null, an empty set is returned.
+   *
+   * @param snapshot The snapshot to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return A bit set with the id of every reachable vertex set.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the snapshot.
+   */
+  public <T> BitSet reachable(GraphSnapshot<T> snapshot, int vertex) {
+    if(snapshot == null) return new BitSet();
+
+    BitSet reachable = new BitSet(snapshot.vertexCount());
+
+    snapshot.traverse(vertex, reachable, current -> true);
+    return reachable;
+  }
+
+  /**
+   * Returns the ids of all vertices reachable from each of the given starting vertices of a CSR
+   * graph. Up to 64 sources are answered by one shared bit-parallel traversal; see
+   * MultiSourceTraversal.
+   *
+   * If the given graph is null, every result is an empty set.
+   *
+   * @param graph The graph to traverse.
+   * @param sources The ids of the starting vertices.
+   * @return One bit set per source, in the same order as sources.
+   * @throws NullPointerException if sources is null.
+   * @throws IndexOutOfBoundsException if a source is not a valid id in the graph.
+   */
+  public <T> BitSet[] reachable(CsrGraph<T> graph, int[] sources) {
+    if(sources == null){
+      throw new NullPointerException("Sources cannot be null.");
+    }
+    if(graph == null){
+      BitSet[] empty = new BitSet[sources.length];
+      Arrays.setAll(empty, i -> new BitSet());
+      return empty;
+    }
+    return MultiSourceTraversal.reachable(graph, sources);
+  }
+
+  /**
+   * Returns, for each of the given starting vertices, the set of all vertices reachable from it.
+   * The graph reachable from all sources is compressed once and the sources are then answered
+   * in shared bit-parallel traversals, which costs far less than one reachable call per source
+   * when their reachable sets overlap.
+   *
+   * A null source yields an empty set.
+   *
+   * @param sources The starting vertices.
+   * @return One set per source, in the same order as sources.
+   * @throws NullPointerException if sources is null.
+   */
+  public <T> List<Set<Vertex<T>>> reachableAll(List<Vertex<T>> sources) {
+    if(sources == null){
+      throw new NullPointerException("Sources cannot be null.");
+    }
+    List<Vertex<T>> order = new ArrayList<>();
+    CsrGraph<T> graph = CsrGraph.of(sources, order);
+    Map<Vertex<T>, Integer> ids = idsOf(order);
+
+    int[] roots = sources.stream().filter(Objects::nonNull).mapToInt(ids::get).toArray();
+    BitSet[] reached = MultiSourceTraversal.reachable(graph, roots);
+    List<Set<Vertex<T>>> result = new ArrayList<>(sources.size());
+    int next = 0;
+    for(Vertex<T> source : sources){
+      Set<Vertex<T>> set = new HashSet<>();
+      if(source != null){
+        BitSet bits = reached[next++];
+        for(int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)){
+          set.add(order.get(id));
+        }
+      }
+      result.add(set);
     }
+    return result;
+  }
+  private static <T> Map<Vertex<T>, Integer> idsOf(List<Vertex<T>> order){
+    Map<Vertex<T>, Integer> ids = new HashMap<>(order.size() * 2);
+    for(int i = 0; i < order.size(); i++){
+      ids.put(order.get(i), i);
+    }
+    return ids;
   }
 
   /**
@@ -78,21 +526,123 @@ public class Practice {
   public int max(Vertex<Integer> vertex) {
     if(vertex == null) return Integer.MIN_VALUE;
 
-    Set<Vertex<Integer>> visited = new HashSet<>();
+    int[] maxVal = {Integer.MIN_VALUE};
 
-    return max(vertex, visited);
+    engine().traverse(vertex, visited(), current -> {
+      maxVal[0] = Math.max(maxVal[0], current.data);
+      return true;
+    });
+    return maxVal[0];
+  }
+
+  /**
+   * Returns the maximum value among the vertices within the given limit of the starting vertex,
+   * including the starting vertex itself.
+   *
+   * If the given vertex is null, the value is Integer.MIN_VALUE.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param limit The largest depth and number of vertices to visit.
+   * @return The maximum value reached, and whether the limit left any reachable vertex out.
+   * @throws NullPointerException if limit is null.
+   */
+  public BoundedResult<Integer> max(Vertex<Integer> vertex, TraversalLimit limit) {
+    int[] maxVal = {Integer.MIN_VALUE};
+    boolean truncated = traverseWithin(vertex, limit, current -> {
+      maxVal[0] = Math.max(maxVal[0], current.data);
+      return true;
+    });
+    return new BoundedResult<>(maxVal[0], truncated);
   }
-  private int max(Vertex<Integer> vertex, Set<Vertex<Integer>> visited){
-    if(vertex == null) return Integer.MIN_VALUE;
-    if(visited.contains(vertex)) return Integer.MIN_VALUE;
-    visited.add(vertex);
-    int maxVal = vertex.data;
 
-    for(Vertex<Integer> neighbor : vertex.neighbors){
-    
-      maxVal =  Math.max(max(neighbor, visited), maxVal);
+  /**
+   * Returns the same value as max(vertex), computed by a work-stealing traversal on the given
+   * pool. Each task keeps its own running maximum, and maxima are combined as tasks are joined.
+   *
+   * If the given vertex is null, the method returns Integer.MIN_VALUE.
+   *
+   * @param vertex The starting vertex for the traversal.
+   * @param pool The pool that runs the traversal.
+   * @return The maximum value of any reachable vertex, or Integer.MIN_VALUE if vertex is null.
+   * @throws NullPointerException if pool is null.
+   */
+  public int maxParallel(Vertex<Integer> vertex, ForkJoinPool pool) {
+    if(pool == null){
+      throw new NullPointerException("Pool cannot be null.");
     }
-    return maxVal;
+    if(vertex == null) return Integer.MIN_VALUE;
+
+    return ParallelTraversal.collect(vertex, concurrentVisited(), pool,
+        Collectors.summarizingInt((Vertex<Integer> current) -> current.data)).getMax();
+  }
+
+  /**
+   * Returns the maximum value among all vertices reachable from the given starting vertex of a
+   * CSR graph, including the starting vertex itself.
+   *
+   * If the given graph is null, the method returns Integer.MIN_VALUE.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return The maximum value of any reachable vertex, or Integer.MIN_VALUE if graph is null.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public int max(CsrGraph<Integer> graph, int vertex) {
+    if(graph == null) return Integer.MIN_VALUE;
+
+    int[] maxVal = {Integer.MIN_VALUE};
+
+    graph.traverse(vertex, new BitSet(graph.vertexCount()), current -> {
+      maxVal[0] = Math.max(maxVal[0], graph.intValue(current));
+      return true;
+    });
+    return maxVal[0];
+  }
+
+  /**
+   * Returns the maximum value among all vertices reachable from the given starting vertex of a
+   * memory-mapped graph, including the starting vertex itself.
+   *
+   * If the given graph is null, the method returns Integer.MIN_VALUE.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return The maximum value of any reachable vertex, or Integer.MIN_VALUE if graph is null.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public int max(BinaryGraph graph, int vertex) {
+    if(graph == null) return Integer.MIN_VALUE;
+
+    int[] maxVal = {Integer.MIN_VALUE};
+
+    graph.traverse(vertex, current -> {
+      maxVal[0] = Math.max(maxVal[0], graph.intValue(current));
+      return true;
+    });
+    return maxVal[0];
+  }
+
+  /**
+   * Returns the maximum value among all vertices reachable from the given starting vertex of a
+   * published graph snapshot, including the starting vertex itself.
+   *
+   * If the given snapshot is null, the method returns Integer.MIN_VALUE.
+   *
+   * @param snapshot The snapshot to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return The maximum value of any reachable vertex, or Integer.MIN_VALUE if snapshot is null.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the snapshot.
+   */
+  public int max(GraphSnapshot<Integer> snapshot, int vertex) {
+    if(snapshot == null) return Integer.MIN_VALUE;
+
+    int[] maxVal = {Integer.MIN_VALUE};
+
+    snapshot.traverse(vertex, new BitSet(snapshot.vertexCount()), current -> {
+      maxVal[0] = Math.max(maxVal[0], snapshot.value(current));
+      return true;
+    });
+    return maxVal[0];
   }
 
   /**
@@ -108,22 +658,91 @@ public class Practice {
    */
   public <T> Set<Vertex<T>> leaves(Vertex<T> vertex) {
     if(vertex == null) return new HashSet<>();
-    Set<Vertex<T>> leaVertexs = new HashSet<>();
-    if(vertex.neighbors == null) {
-      leaVertexs.add(vertex);
-      return leaVertexs;
-    }
-    leavesHelper(vertex, leaVertexs);
-    return leaVertexs;
+
+    Set<Vertex<T>> leaves = new HashSet<>();
+
+    engine().traverse(vertex, visited(), current -> {
+      if(isLeaf(current)) leaves.add(current);
+      return true;
+    });
+    return leaves;
   }
-  private <T> void leavesHelper(Vertex<T> vertex, Set<Vertex<T>> leaves){
-    if(vertex == null) return;
-    if(vertex.neighbors != null){
-      for(Vertex<T> neighbor : vertex.neighbors){
-        leavesHelper(neighbor, leaves);
-      }
-    }
-    leaves.add(vertex);
+
+  /**
+   * Tells whether a vertex is a leaf, for leaf queries in this package. A vertex whose neighbor list
+   * holds only null entries is not a leaf.
+   */
+  static <T> boolean isLeaf(Vertex<T> vertex){
+    return vertex.neighbors == null || vertex.neighbors.isEmpty();
+  }
+
+  /**
+   * Returns the ids of all leaf vertices reachable from the given starting vertex of a CSR graph.
+   * A vertex is considered a leaf if it has no outgoing edges.
+   *
+   * If the given graph is null, an empty set is returned.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return A bit set with the id of every reachable leaf set.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public <T> BitSet leaves(CsrGraph<T> graph, int vertex) {
+    if(graph == null) return new BitSet();
+
+    BitSet leaves = new BitSet(graph.vertexCount());
+
+    graph.traverse(vertex, new BitSet(graph.vertexCount()), current -> {
+      if(graph.degree(current) == 0) leaves.set(current);
+      return true;
+    });
+    return leaves;
+  }
+
+  /**
+   * Returns the ids of all leaf vertices reachable from the given starting vertex of a
+   * memory-mapped graph. A vertex is considered a leaf if it has no outgoing edges.
+   *
+   * If the given graph is null, an empty set is returned.
+   *
+   * @param graph The graph to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return A bit set with the id of every reachable leaf set.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the graph.
+   */
+  public BitSet leaves(BinaryGraph graph, int vertex) {
+    if(graph == null) return new BitSet();
+
+    BitSet leaves = new BitSet(graph.vertexCount());
+
+    graph.traverse(vertex, current -> {
+      if(graph.degree(current) == 0) leaves.set(current);
+      return true;
+    });
+    return leaves;
+  }
+
+  /**
+   * Returns the ids of all leaf vertices reachable from the given starting vertex of a published
+   * graph snapshot. A vertex is considered a leaf if it has no outgoing edges in that snapshot.
+   *
+   * If the given snapshot is null, an empty set is returned.
+   *
+   * @param snapshot The snapshot to traverse.
+   * @param vertex The id of the starting vertex.
+   * @return A bit set with the id of every reachable leaf set.
+   * @throws IndexOutOfBoundsException if vertex is not a valid id in the snapshot.
+   */
+  public <T> BitSet leaves(GraphSnapshot<T> snapshot, int vertex) {
+    if(snapshot == null) return new BitSet();
+
+    BitSet leaves = new BitSet(snapshot.vertexCount());
+
+    snapshot.traverse(vertex, new BitSet(snapshot.vertexCount()), current -> {
+      if(snapshot.degree(current) == 0) leaves.set(current);
+      return true;
+    });
+    return leaves;
   }
 
   /**
@@ -131,7 +750,9 @@ public class Practice {
    * to the target vertex.
    *
    * A path is strictly increasing if each visited vertex has a value strictly greater than
-   * (not equal to) the previous vertex in the path.
+   * (not equal to) the previous vertex in the path. Every vertex strictly inside such a path holds
+   * a value below end's, so the search never expands a vertex whose value is not; for a search that
+   * is also bounded from the end, see BidirectionalPathSearch.
    *
    * If either start or end is null, a NullPointerException is thrown.
    *
@@ -144,23 +765,276 @@ public class Practice {
     if(start == null|| end == null){
       throw new NullPointerException("Start or end cannot be null.");
     }
-    
-    Set<Vertex<Integer>> visited = new HashSet<>();
-    return dfs(start, end, visited, Integer.MIN_VALUE);
+
+    int high = end.data;
+
+    boolean completed = engine().traverse(start, visited(), new TraversalEngine.Visitor<Integer>() {
+      @Override
+      public boolean visit(Vertex<Integer> current) {
+        return current != end;
+      }
+
+      @Override
+      public boolean follow(Vertex<Integer> from, Vertex<Integer> to) {
+        return to.data > from.data && (to == end || to.data < high);
+      }
+    });
+    return !completed;
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path of at most limit.maxDepth() edges
+   * from the given start vertex to the target vertex, searching at most limit.maxVisits() vertices,
+   * the target included.
+   *
+   * A true answer is always definite. A false answer is definite only if it is not truncated; a
+   * truncated false means no path was found within the limit.
+   *
+   * @param start The starting vertex.
+   * @param end The target vertex.
+   * @param limit The largest path length and number of vertices to search.
+   * @return Whether a path was found, and whether the limit cut the search short.
+   * @throws NullPointerException if start, end or limit is null.
+   */
+  public BoundedResult<Boolean> hasStrictlyIncreasingPath(Vertex<Integer> start, Vertex<Integer> end,
+                                                          TraversalLimit limit) {
+    if(start == null|| end == null){
+      throw new NullPointerException("Start or end cannot be null.");
+    }
+    if(limit == null){
+      throw new NullPointerException("Limit cannot be null.");
+    }
+
+    int high = end.data;
+
+    TraversalEngine.Outcome outcome = engine().traverseWithin(start, visited(), new TraversalEngine.Visitor<Integer>() {
+      @Override
+      public boolean visit(Vertex<Integer> current) {
+        return current != end;
+      }
+
+      @Override
+      public boolean follow(Vertex<Integer> from, Vertex<Integer> to) {
+        return to.data > from.data && (to == end || to.data < high);
+      }
+    }, limit.maxDepth(), limit.maxVisits());
+    return new BoundedResult<>(outcome == TraversalEngine.Outcome.STOPPED, outcome == TraversalEngine.Outcome.TRUNCATED);
   }
-  private boolean dfs(Vertex<Integer> current, Vertex<Integer> end, Set<Vertex<Integer>> visited, int prevValue){
-    if(current == null|| visited.contains(current)) return false;
 
-    if(current.data < prevValue) return false;
+  /**
+   * Determines whether there exists a strictly increasing path between two vertices of a CSR
+   * graph, with the same semantics as hasStrictlyIncreasingPath(Vertex, Vertex).
+   *
+   * @param graph The graph to search.
+   * @param start The id of the starting vertex.
+   * @param end The id of the target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws NullPointerException if graph is null.
+   * @throws IndexOutOfBoundsException if start or end is not a valid id in the graph.
+   */
+  public boolean hasStrictlyIncreasingPath(CsrGraph<Integer> graph, int start, int end) {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    if(end < 0 || end >= graph.vertexCount()){
+      throw new IndexOutOfBoundsException("Vertex id " + end + " out of range for graph of " + graph.vertexCount() + " vertices");
+    }
+
+    int high = graph.intValue(end);
 
-    if(current == end) return true;
-    visited.add(current);
+    boolean completed = graph.traverse(start, new BitSet(graph.vertexCount()), new CsrGraph.Visitor() {
+      @Override
+      public boolean visit(int current) {
+        return current != end;
+      }
 
-    for(Vertex<Integer> neighbor : current.neighbors){
-      if(dfs(neighbor, end, visited, current.data)){
-        return true;
+      @Override
+      public boolean follow(int from, int to) {
+        int value = graph.intValue(to);
+        return value > graph.intValue(from) && (to == end || value < high);
       }
+    });
+    return !completed;
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path between two vertices of a
+   * memory-mapped graph, with the same semantics as hasStrictlyIncreasingPath(Vertex, Vertex).
+   *
+   * @param graph The graph to search.
+   * @param start The id of the starting vertex.
+   * @param end The id of the target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws NullPointerException if graph is null.
+   * @throws IndexOutOfBoundsException if start or end is not a valid id in the graph.
+   */
+  public boolean hasStrictlyIncreasingPath(BinaryGraph graph, int start, int end) {
+    if(graph == null){
+      throw new NullPointerException("Graph cannot be null.");
+    }
+    if(end < 0 || end >= graph.vertexCount()){
+      throw new IndexOutOfBoundsException("Vertex id " + end + " out of range for graph of " + graph.vertexCount() + " vertices");
     }
-    return false;
+
+    int high = graph.intValue(end);
+
+    boolean completed = graph.traverse(start, new CsrGraph.Visitor() {
+      @Override
+      public boolean visit(int current) {
+        return current != end;
+      }
+
+      @Override
+      public boolean follow(int from, int to) {
+        int value = graph.intValue(to);
+        return value > graph.intValue(from) && (to == end || value < high);
+      }
+    });
+    return !completed;
+  }
+
+  /**
+   * Determines whether there exists a strictly increasing path between two vertices of a published
+   * graph snapshot, with the same semantics as hasStrictlyIncreasingPath(Vertex, Vertex).
+   *
+   * @param snapshot The snapshot to search.
+   * @param start The id of the starting vertex.
+   * @param end The id of the target vertex.
+   * @return True if a strictly increasing path exists, false otherwise.
+   * @throws NullPointerException if snapshot is null or a vertex reached holds a null value.
+   * @throws IndexOutOfBoundsException if start or end is not a valid id in the snapshot.
+   */
+  public boolean hasStrictlyIncreasingPath(GraphSnapshot<Integer> snapshot, int start, int end) {
+    if(snapshot == null){
+      throw new NullPointerException("Snapshot cannot be null.");
+    }
+
+    int high = snapshot.value(end);
+
+    boolean completed = snapshot.traverse(start, new BitSet(snapshot.vertexCount()), new CsrGraph.Visitor() {
+      @Override
+      public boolean visit(int current) {
+        return current != end;
+      }
+
+      @Override
+      public boolean follow(int from, int to) {
+        int value = snapshot.value(to);
+        return value > snapshot.value(from) && (to == end || value < high);
+      }
+    });
+    return !completed;
+  }
+
+  /**
+   * Answers hasStrictlyIncreasingPath(graph, starts[i], ends[i]) for every i at once. Pairs that
+   * share a start share one traversal, and up to 64 distinct starts are searched together; see
+   * MultiSourceTraversal.
+   *
+   * @param graph The graph to search.
+   * @param starts The ids of the starting vertices.
+   * @param ends The ids of the target vertices, one per start.
+   * @return One answer per pair, in the same order as the pairs.
+   * @throws NullPointerException if graph, starts or ends is null.
+   * @throws IllegalArgumentException if starts and ends differ in length.
+   * @throws IndexOutOfBoundsException if a start or end is not a valid id in the graph.
+   */
+  public boolean[] hasStrictlyIncreasingPaths(CsrGraph<Integer> graph, int[] starts, int[] ends) {
+    return MultiSourceTraversal.hasStrictlyIncreasingPaths(graph, starts, ends);
+  }
+
+  /**
+   * Answers hasStrictlyIncreasingPath(starts.get(i), ends.get(i)) for every i at once, compressing
+   * the graph reachable from the starts once and searching up to 64 distinct starts together.
+   *
+   * @param starts The starting vertices.
+   * @param ends The target vertices, one per start.
+   * @return One answer per pair, in the same order as the pairs.
+   * @throws NullPointerException if starts or ends is null or contains null.
+   * @throws IllegalArgumentException if starts and ends differ in size.
+   */
+  public boolean[] hasStrictlyIncreasingPaths(List<Vertex<Integer>> starts, List<Vertex<Integer>> ends) {
+    if(starts == null || ends == null){
+      throw new NullPointerException("Starts or ends cannot be null.");
+    }
+    if(starts.size() != ends.size()){
+      throw new IllegalArgumentException("Starts and ends must have the same size: " + starts.size() + " != " + ends.size());
+    }
+    if(starts.contains(null) || ends.contains(null)){
+      throw new NullPointerException("Start or end cannot be null.");
+    }
+    List<Vertex<Integer>> order = new ArrayList<>();
+    CsrGraph<Integer> graph = CsrGraph.of(starts, order);
+    Map<Vertex<Integer>, Integer> ids = idsOf(order);
+
+    boolean[] answers = new boolean[starts.size()];
+    List<Integer> pairs = new ArrayList<>();
+    for(int i = 0; i < starts.size(); i++){
+      // An end outside everything the starts can reach is never reached.
+      if(ids.containsKey(ends.get(i))) pairs.add(i);
+    }
+    int[] startIds = pairs.stream().mapToInt(i -> ids.get(starts.get(i))).toArray();
+    int[] endIds = pairs.stream().mapToInt(i -> ids.get(ends.get(i))).toArray();
+    boolean[] found = MultiSourceTraversal.hasStrictlyIncreasingPaths(graph, startIds, endIds);
+    for(int p = 0; p < found.length; p++){
+      answers[pairs.get(p)] = found[p];
+    }
+    return answers;
+  }
+
+  private <T> boolean traverse(Vertex<T> vertex, VisitedSet<T> visited, TraversalEngine.Visitor<T> visitor,
+                               TraversalStrategy strategy){
+    if(strategy == TraversalStrategy.DFS) return engine().traverse(vertex, visited, visitor);
+
+    int id = index == null ? VertexIndex.UNINDEXED : index.idOf(vertex);
+    if(strategy == TraversalStrategy.BFS || id < 0) return engine().traverseBreadthFirst(vertex, visited, visitor);
+
+    BreadthFirstTraversal traversal = breadthFirst();
+    if(traversal == null) return engine().traverseBreadthFirst(vertex, visited, visitor);
+    BitSet reached = traversal.directionOptimizing(id);
+    for(int next = reached.nextSetBit(0); next >= 0; next = reached.nextSetBit(next + 1)){
+      @SuppressWarnings("unchecked")
+      Vertex<T> current = (Vertex<T>) index.vertex(next);
+      if(visited.add(current) && !visitor.visit(current)) return false;
+    }
+    return true;
+  }
+  // Returns the traversal over a snapshot of the current graph version, or null while the graph
+  // has an edge to an unindexed vertex, which CsrGraph.of rejects.
+  private BreadthFirstTraversal breadthFirst(){
+    if(breadthFirstVersion != index.version()){
+      breadthFirstVersion = index.version();
+      try {
+        breadthFirst = new BreadthFirstTraversal(CsrGraph.of(index));
+      } catch(IllegalStateException e){
+        breadthFirst = null;
+      }
+    }
+    return breadthFirst;
+  }
+
+  // Returns true if the limit cut the traversal short.
+  private <T> boolean traverseWithin(Vertex<T> vertex, TraversalLimit limit, TraversalEngine.Visitor<T> visitor){
+    if(limit == null){
+      throw new NullPointerException("Limit cannot be null.");
+    }
+    if(vertex == null) return false;
+    return engine().traverseWithin(vertex, visited(), visitor, limit.maxDepth(), limit.maxVisits())
+        == TraversalEngine.Outcome.TRUNCATED;
+  }
+
+  private TraversalEngine engine(){
+    if(engine != null) return engine;
+    return metrics == null ? new TraversalEngine() : new TraversalEngine(metrics);
+  }
+  private <T> VisitedSet<T> concurrentVisited(){
+    if(index != null) return index.concurrentVisited();
+    Set<Vertex<T>> visited = ConcurrentHashMap.newKeySet();
+    return visited::add;
+  }
+  private <T> VisitedSet<T> visited(){
+    if(index != null) return index.visited();
+    Set<Vertex<T>> visited = new HashSet<>();
+    return visited::add;
   }
 }
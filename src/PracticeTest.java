@@ -1,13 +1,48 @@
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.Set;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 /**
  * JUnit test suite for the Practice class.
@@ -88,6 +123,39 @@ public class PracticeTest {
     return new GraphData(v3, v7, v12, v34, v56, v78, v91, v45, v23, v67);
   }
 
+  /**
+   * Builds a chain 0 -> 1 -> ... -> (length - 1) and returns its vertices in order.
+   * Long chains are far deeper than the default thread stack allows for a recursive DFS.
+   */
+  private List<Vertex<Integer>> buildChain(int length) {
+    List<Vertex<Integer>> chain = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      chain.add(new Vertex<>(i));
+    }
+    for (int i = 0; i + 1 < length; i++) {
+      chain.get(i).neighbors.add(chain.get(i + 1));
+    }
+    return chain;
+  }
+
+  /**
+   * Builds a random graph where every vertex i holds value i and has the given number of
+   * uniformly chosen neighbors (self-loops and repeats allowed). Vertex 0 is returned first.
+   */
+  private List<Vertex<Integer>> buildRandomGraph(int size, int degree, long seed) {
+    Random random = new Random(seed);
+    List<Vertex<Integer>> vertices = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      vertices.add(new Vertex<>(i));
+    }
+    for (Vertex<Integer> v : vertices) {
+      for (int d = 0; d < degree; d++) {
+        v.neighbors.add(vertices.get(random.nextInt(size)));
+      }
+    }
+    return vertices;
+  }
+
   // ---------------------------
   // Tests for printVertexVals
   // ---------------------------
@@ -146,6 +214,51 @@ public class PracticeTest {
     assertEquals(expected, printed, "printVertexVals for a single node should print '42'");
   }
 
+  @Test
+  public void testPrintVertexValsToWriter_OutputCorrect() throws Exception {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    StringWriter writer = new StringWriter();
+
+    practice.printVertexVals(graph.v3, writer);
+
+    Set<String> printed = new HashSet<>(Arrays.asList(writer.toString().split(System.lineSeparator())));
+    Set<String> expected = new HashSet<>(Arrays.asList("3", "7", "34", "12", "45", "56", "78", "91", "23"));
+    assertEquals(expected, printed, "printVertexVals to a Writer did not write the expected values");
+  }
+
+  @Test
+  public void testPrintVertexValsToChannel_SmallBufferOutputCorrect() throws Exception {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ValuePrinter printer = new ValuePrinter(Channels.newChannel(baos), StandardCharsets.UTF_8, 4,
+        ValuePrinter.FlushPolicy.MANUAL);
+
+    practice.printVertexVals(graph.v45, printer);
+    practice.printVertexVals(graph.v91, printer);
+    printer.flush();
+
+    List<String> printed = Arrays.asList(baos.toString("UTF-8").split(System.lineSeparator()));
+    assertEquals(5, printed.size(), "A reused printer should write the values of both traversals");
+    assertEquals(new HashSet<>(Arrays.asList("45", "23", "91", "56", "78")), new HashSet<>(printed),
+        "printVertexVals to a channel did not write the expected values");
+  }
+
+  @Test
+  public void testForEachVertexVal_VisitsEachValueOnce() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    List<Integer> values = new ArrayList<>();
+
+    practice.forEachVertexVal(graph.v3, values::add);
+    practice.forEachVertexVal((Vertex<Integer>) null, values::add);
+
+    assertEquals(9, values.size(), "forEachVertexVal should pass each reachable value exactly once");
+    assertEquals(new HashSet<>(Arrays.asList(3, 7, 34, 12, 45, 56, 78, 91, 23)), new HashSet<>(values),
+        "forEachVertexVal did not pass the expected values");
+  }
+
   // ---------------------------
   // Tests for reachable
   // ---------------------------
@@ -172,6 +285,79 @@ public class PracticeTest {
     assertTrue(result.isEmpty(), "reachable(null) should return an empty set");
   }
 
+  @Test
+  public void testReachableStream_MatchesReachable() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    List<Vertex<Integer>> streamed = practice.reachableStream(graph.v3).collect(Collectors.toList());
+    assertEquals(9, streamed.size(), "reachableStream should yield each reachable vertex exactly once");
+    assertEquals(practice.reachable(graph.v3), new HashSet<>(streamed), "reachableStream should match reachable");
+    assertEquals(0, practice.reachableStream(null).count(), "reachableStream(null) should be empty");
+  }
+
+  @Test
+  public void testReachableIterator_MatchesReachable() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    Set<Vertex<Integer>> iterated = new HashSet<>();
+    Iterator<Vertex<Integer>> iterator = practice.reachableIterator(graph.v45);
+    while (iterator.hasNext()) {
+      iterated.add(iterator.next());
+    }
+    assertEquals(practice.reachable(graph.v45), iterated, "reachableIterator should match reachable");
+    assertFalse(practice.reachableIterator(null).hasNext(), "reachableIterator(null) should be empty");
+  }
+
+  @Test
+  public void testReachableStream_LimitStopsBeforeExpandingTheRest() {
+    Practice practice = new Practice();
+    Vertex<Integer> a = new Vertex<>(1);
+    Vertex<Integer> b = new Vertex<>(2);
+    Vertex<Integer> c = new Vertex<>(3);
+    a.neighbors.add(b);
+    b.neighbors.add(c);
+    // Expanding c would fail, so the stream must not get that far.
+    c.neighbors = new ArrayList<Vertex<Integer>>() {
+      @Override
+      public Iterator<Vertex<Integer>> iterator() {
+        throw new AssertionError("c should never be expanded");
+      }
+    };
+    assertEquals(Arrays.asList(1, 2),
+        practice.reachableStream(a).limit(2).map(v -> v.data).collect(Collectors.toList()),
+        "limit(2) should yield the first two vertices without expanding the third");
+    assertTrue(practice.reachableStream(a).anyMatch(v -> v == b), "anyMatch should stop once it finds b");
+  }
+
+  @Test
+  public void testReachableStreamParallel_MatchesReachable() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> vertices = buildRandomGraph(50_000, 3, 13);
+    List<Vertex<Integer>> streamed = practice.reachableStream(vertices.get(0)).parallel().collect(Collectors.toList());
+    Set<Vertex<Integer>> expected = practice.reachable(vertices.get(0));
+    assertEquals(expected.size(), streamed.size(), "A parallel reachableStream should yield each vertex exactly once");
+    assertEquals(expected, new HashSet<>(streamed), "A parallel reachableStream should match reachable");
+  }
+
+  @Test
+  public void testReachableStreamParallel_SplitsAcrossThreads() throws Exception {
+    Practice practice = new Practice();
+    // A chain start has one neighbor, so the first split must expand past it to find work to share.
+    List<Vertex<Integer>> vertices = buildRandomGraph(200_000, 3, 17);
+    Vertex<Integer> start = new Vertex<>(-1);
+    start.neighbors.add(vertices.get(0));
+    Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      long count = pool.submit(() -> practice.reachableStream(start).parallel()
+          .peek(vertex -> workers.add(Thread.currentThread())).count()).get();
+      assertEquals(practice.reachable(start).size(), count, "A parallel reachableStream should yield each vertex exactly once");
+    } finally {
+      pool.shutdown();
+    }
+    assertTrue(workers.size() > 1, "A parallel reachableStream should be split across threads, ran on " + workers.size());
+  }
+
   // ---------------------------
   // Tests for max
   // ---------------------------
@@ -228,6 +414,119 @@ public class PracticeTest {
     assertTrue(leaves.isEmpty(), "leaves(null) should return an empty set");
   }
 
+  @Test
+  public void testLeavesSharedSubgraphs_LinearInEdges() {
+    // A ladder of diamonds has 2^depth distinct paths to its bottom vertex; a traversal without
+    // a visited set would never finish.
+    Practice practice = new Practice();
+    int depth = 64;
+    Vertex<Integer> top = new Vertex<>(0);
+    Vertex<Integer> current = top;
+    for (int level = 1; level <= depth; level++) {
+      Vertex<Integer> left = new Vertex<>(3 * level - 2);
+      Vertex<Integer> right = new Vertex<>(3 * level - 1);
+      Vertex<Integer> join = new Vertex<>(3 * level);
+      current.neighbors.addAll(Arrays.asList(left, right));
+      left.neighbors.add(join);
+      right.neighbors.add(join);
+      current = join;
+    }
+    Set<Vertex<Integer>> leaves = practice.leaves(top);
+    assertEquals(1, leaves.size(), "A diamond ladder should have exactly one leaf");
+    assertSame(current, leaves.iterator().next(), "The leaf of a diamond ladder is its bottom vertex");
+  }
+
+  @Test
+  public void testCondensationComplexGraph_FindsComponents() {
+    GraphData graph = buildComplexGraph();
+    Condensation<Integer> condensation = Condensation.of(graph.v3);
+    // {3}, {7, 12}, {34}, {56, 78, 91}, {45}, {23}
+    assertEquals(6, condensation.componentCount(), "Complex graph should have 6 strongly connected components");
+    assertEquals(condensation.componentOf(graph.v7), condensation.componentOf(graph.v12), "v7 and v12 share a cycle");
+    assertEquals(condensation.componentOf(graph.v56), condensation.componentOf(graph.v91), "v56 and v91 share a cycle");
+    assertNotEquals(condensation.componentOf(graph.v3), condensation.componentOf(graph.v7), "v3 is not on a cycle");
+    assertTrue(condensation.componentOf(graph.v3) > condensation.componentOf(graph.v23),
+        "Components should be numbered in reverse topological order");
+    assertEquals(-1, condensation.componentOf(graph.v67), "v67 is not reachable from v3");
+  }
+
+  @Test
+  public void testCondensationLeaves_MatchesPracticeFromEveryRoot() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    Condensation<Integer> condensation = Condensation.of(graph.v3);
+    List<Vertex<Integer>> all = Arrays.asList(graph.v23, graph.v45, graph.v91, graph.v12, graph.v3, graph.v7,
+        graph.v34, graph.v56, graph.v78, graph.v67);
+    for (int round = 0; round < 2; round++) {
+      for (Vertex<Integer> root : all) {
+        assertEquals(practice.leaves(root), condensation.leaves(root),
+            "Condensation leaves from " + root.data + " should match Practice on round " + round);
+      }
+    }
+    assertTrue(condensation.leaves(null).isEmpty(), "leaves(null) should return an empty set");
+  }
+
+  @Test
+  public void testCondensationLeaves_RandomGraphMatchesPractice() {
+    List<Vertex<Integer>> vertices = buildRandomGraph(2_000, 2, 3);
+    for (int i = 5; i < vertices.size(); i += 7) {
+      vertices.get(i).neighbors.clear();
+    }
+    Practice practice = new Practice();
+    Condensation<Integer> condensation = Condensation.of(vertices.get(0));
+    for (Vertex<Integer> root : vertices) {
+      assertEquals(practice.leaves(root), condensation.leaves(root),
+          "Condensation leaves from " + root.data + " should match Practice");
+    }
+  }
+
+  @Test
+  public void testCondensationLeaves_NullNeighborEntryIsNotALeaf() {
+    Vertex<Integer> leaf = new Vertex<>(2, new ArrayList<>());
+    Vertex<Integer> nullOnly = new Vertex<>(3, new ArrayList<>(Arrays.asList((Vertex<Integer>) null)));
+    Vertex<Integer> root = new Vertex<>(1, new ArrayList<>(Arrays.asList(leaf, nullOnly)));
+    Practice practice = new Practice();
+    Condensation<Integer> condensation = Condensation.of(root);
+
+    assertEquals(Set.of(leaf), practice.leaves(root), "A vertex whose only neighbor is null should not be a leaf");
+    assertEquals(practice.leaves(root), condensation.leaves(root), "Condensation leaves should match Practice");
+    assertTrue(condensation.leaves(nullOnly).isEmpty(), "A vertex whose only neighbor is null should not be a leaf");
+  }
+
+  @Test
+  public void testCondensationAggregates_MatchPracticeFromEveryRoot() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    Condensation<Integer> condensation = Condensation.of(graph.v3);
+    List<Vertex<Integer>> all = Arrays.asList(graph.v3, graph.v7, graph.v12, graph.v34, graph.v56,
+        graph.v78, graph.v91, graph.v45, graph.v23, graph.v67);
+    for (Vertex<Integer> root : all) {
+      assertEquals(practice.max(root), condensation.max(root), "Condensation max from " + root.data + " should match");
+      assertEquals(practice.reachable(root).size(), condensation.reachableSize(root),
+          "Condensation reachable size from " + root.data + " should match");
+      assertEquals(practice.reachable(root), condensation.reachable(root),
+          "Condensation reachable from " + root.data + " should match");
+    }
+    int cycle = condensation.componentOf(graph.v78);
+    assertEquals(3, condensation.componentSize(cycle), "The 56-78-91 cycle should be one component of size 3");
+    assertEquals(91, condensation.componentMax(cycle), "The 56-78-91 cycle should have max 91");
+    assertTrue(condensation.isLeaf(condensation.componentOf(graph.v23)), "v23 should be a leaf component");
+    assertEquals(Integer.MIN_VALUE, condensation.max(null), "max(null) should return Integer.MIN_VALUE");
+    assertEquals(0, condensation.reachableSize(null), "reachableSize(null) should return 0");
+  }
+
+  @Test
+  public void testCondensationAggregates_RandomGraphMatchesPractice() {
+    List<Vertex<Integer>> vertices = buildRandomGraph(2_000, 1, 21);
+    Practice practice = new Practice();
+    Condensation<Integer> condensation = Condensation.of(vertices.get(0));
+    for (Vertex<Integer> root : vertices) {
+      assertEquals(practice.max(root), condensation.max(root), "Condensation max from " + root.data + " should match");
+      assertEquals(practice.reachable(root).size(), condensation.reachableSize(root),
+          "Condensation reachable size from " + root.data + " should match");
+    }
+  }
+
   // ---------------------------
   // Tests for hasStrictlyIncreasingPath
   // ---------------------------
@@ -388,6 +687,1813 @@ public class PracticeTest {
         "There should be no strictly increasing path from 10 to 5");
   }
 
+  // ---------------------------
+  // Tests for CSR overloads
+  // ---------------------------
+
+  /**
+   * Returns the CSR id of the vertex holding the given value. Values are unique in every fixture.
+   */
+  private int idOf(CsrGraph<Integer> graph, int value) {
+    for (int id = 0; id < graph.vertexCount(); id++) {
+      if (graph.intValue(id) == value) {
+        return id;
+      }
+    }
+    throw new IllegalArgumentException("No vertex with value " + value);
+  }
+
+  private Set<Integer> valuesOf(CsrGraph<Integer> graph, BitSet ids) {
+    Set<Integer> values = new HashSet<>();
+    for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+      values.add(graph.intValue(id));
+    }
+    return values;
+  }
+
+  @Test
+  public void testCsrBuildComplexGraph_CountsVerticesAndEdges() {
+    GraphData graph = buildComplexGraph();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(graph.v3);
+    // v67 is not reachable from v3, so it is not part of the compressed graph.
+    assertEquals(9, csr.vertexCount(), "CSR graph should contain the 9 vertices reachable from v3");
+    assertEquals(15, csr.edgeCount(), "CSR graph should contain every edge, including the v34 self-loop");
+    assertEquals(3, csr.intValue(0), "The root should have id 0");
+  }
+
+  @Test
+  public void testCsrPrintVertexValsComplexGraph_OutputCorrect() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    PrintStream originalOut = System.out;
+    TeeOutputStream tee = new TeeOutputStream(originalOut, baos);
+    System.setOut(new PrintStream(tee));
+
+    practice.printVertexVals(csr, 0);
+
+    System.out.flush();
+    System.setOut(originalOut);
+
+    Set<String> printed = new HashSet<>();
+    for (String line : baos.toString().split(System.lineSeparator())) {
+      if (!line.trim().isEmpty()) {
+        printed.add(line.trim());
+      }
+    }
+    Set<String> expected = new HashSet<>(Arrays.asList("3", "7", "34", "12", "45", "56", "78", "91", "23"));
+    assertEquals(expected, printed, "printVertexVals on CSR graph did not print the expected values");
+  }
+
+  @Test
+  public void testCsrReachableComplexGraph_MatchesVertexReachable() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    Set<Integer> fromV91 = valuesOf(csr, practice.reachable(csr, idOf(csr, 91)));
+    assertEquals(new HashSet<>(Arrays.asList(91, 56, 78)), fromV91, "reachable on CSR graph from 91 should be its cycle");
+    assertEquals(9, practice.reachable(csr, 0).cardinality(), "reachable on CSR graph from the root should return every vertex");
+  }
+
+  @Test
+  public void testCsrMaxComplexGraph_ReturnsMaxValue() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    assertEquals(91, practice.max(csr, 0), "max on CSR graph should be 91");
+    assertEquals(45, practice.max(csr, idOf(csr, 45)), "max on CSR graph from 45 should be 45");
+  }
+
+  @Test
+  public void testCsrLeavesComplexGraph_ReturnsOnlyLeaf() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    assertEquals(new HashSet<>(Arrays.asList(23)), valuesOf(csr, practice.leaves(csr, 0)),
+        "leaves on CSR graph should only contain vertex 23");
+  }
+
+  @Test
+  public void testCsrHasStrictlyIncreasingPath_MatchesVertexSemantics() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    assertTrue(practice.hasStrictlyIncreasingPath(csr, idOf(csr, 3), idOf(csr, 91)),
+        "Expected a strictly increasing path from vertex 3 to vertex 91 on CSR graph");
+    assertFalse(practice.hasStrictlyIncreasingPath(csr, idOf(csr, 12), idOf(csr, 7)),
+        "Expected no strictly increasing path from vertex 12 to vertex 7 on CSR graph");
+    assertThrows(NullPointerException.class, () -> practice.hasStrictlyIncreasingPath((CsrGraph<Integer>) null, 0, 0),
+        "hasStrictlyIncreasingPath on a null CSR graph should throw NullPointerException");
+  }
+
+  @Test
+  public void testCsrNullGraph_BehavesLikeNullVertex() {
+    Practice practice = new Practice();
+    assertTrue(practice.reachable((CsrGraph<Integer>) null, 0).isEmpty(), "reachable on a null CSR graph should be empty");
+    assertTrue(practice.leaves((CsrGraph<Integer>) null, 0).isEmpty(), "leaves on a null CSR graph should be empty");
+    assertEquals(Integer.MIN_VALUE, practice.max((CsrGraph<Integer>) null, 0), "max on a null CSR graph should be Integer.MIN_VALUE");
+  }
+
+  @Test
+  public void testCsrToVertices_RoundTripsComplexGraph() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.of(buildComplexGraph().v3);
+    List<Vertex<Integer>> vertices = csr.toVertices();
+    Vertex<Integer> root = vertices.get(0);
+
+    Set<Integer> reachableData = new HashSet<>();
+    for (Vertex<Integer> v : practice.reachable(root)) {
+      reachableData.add(v.data);
+    }
+    assertEquals(new HashSet<>(Arrays.asList(3, 7, 34, 12, 45, 56, 78, 91, 23)), reachableData,
+        "Round-tripped graph should reach the same vertices");
+    assertEquals(91, practice.max(root), "Round-tripped graph should have the same max");
+    CsrGraph<Integer> again = CsrGraph.ofInts(root);
+    assertEquals(csr.edgeCount(), again.edgeCount(), "Round-tripped graph should have the same edges");
+  }
+
+  // ---------------------------
+  // Tests for index-bound Practice
+  // ---------------------------
+
+  @Test
+  public void testVertexIndexFreeze_AssignsDenseIdsWithRootFirst() {
+    GraphData graph = buildComplexGraph();
+    VertexIndex<Integer> index = VertexIndex.freeze(graph.v3);
+    assertEquals(9, index.size(), "Index should contain the 9 vertices reachable from v3");
+    assertEquals(0, index.idOf(graph.v3), "The root should have id 0");
+    assertEquals(-1, index.idOf(graph.v67), "v67 is not reachable from v3 and should not be indexed");
+    for (int id = 0; id < index.size(); id++) {
+      assertEquals(id, index.idOf(index.vertex(id)), "Ids should be dense and consistent");
+    }
+  }
+
+  @Test
+  public void testIndexedPractice_RepeatedQueriesMatchUnboundPractice() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    Practice indexed = new Practice(VertexIndex.freeze(graph.v3));
+
+    for (int round = 0; round < 3; round++) {
+      assertEquals(practice.reachable(graph.v3), indexed.reachable(graph.v3), "reachable should match on round " + round);
+      assertEquals(practice.reachable(graph.v45), indexed.reachable(graph.v45), "reachable from v45 should match on round " + round);
+      assertEquals(91, indexed.max(graph.v3), "max should be 91 on round " + round);
+      assertEquals(practice.leaves(graph.v3), indexed.leaves(graph.v3), "leaves should match on round " + round);
+      assertTrue(indexed.hasStrictlyIncreasingPath(graph.v3, graph.v91), "Expected an increasing path from 3 to 91 on round " + round);
+      assertFalse(indexed.hasStrictlyIncreasingPath(graph.v12, graph.v7), "Expected no increasing path from 12 to 7 on round " + round);
+    }
+  }
+
+  @Test
+  public void testIndexedPractice_HandlesVerticesAddedAfterFreeze() {
+    GraphData graph = buildComplexGraph();
+    Practice indexed = new Practice(VertexIndex.freeze(graph.v3));
+    Vertex<Integer> v100 = new Vertex<>(100);
+    v100.neighbors.add(graph.v3);
+    graph.v23.neighbors.add(v100);
+
+    Set<Integer> actualData = new HashSet<>();
+    for (Vertex<Integer> v : indexed.reachable(graph.v3)) {
+      actualData.add(v.data);
+    }
+    assertEquals(new HashSet<>(Arrays.asList(3, 7, 34, 12, 45, 56, 78, 91, 23, 100)), actualData,
+        "reachable should include vertices added after the graph was frozen");
+    assertEquals(100, indexed.max(graph.v3), "max should include vertices added after the graph was frozen");
+    assertEquals(100, indexed.max(v100), "max should work from a vertex that is not indexed");
+  }
+
+  @Test
+  public void testVertexIndexOverlapping_EveryIndexKeepsItsIds() {
+    GraphData graph = buildComplexGraph();
+    VertexIndex<Integer> first = VertexIndex.freeze(graph.v3);
+    VertexIndex<Integer> second = VertexIndex.freeze(graph.v45);
+    // Each of these freezes its own index over the same vertices.
+    BidirectionalPathSearch search = BidirectionalPathSearch.build(graph.v3);
+    IncreasingPathIndex.build(graph.v3);
+    Condensation.of(graph.v3);
+
+    for (int id = 0; id < first.size(); id++) {
+      assertEquals(id, first.idOf(first.vertex(id)), "Later freezes should not change ids in the first index");
+    }
+    for (int id = 0; id < second.size(); id++) {
+      assertEquals(id, second.idOf(second.vertex(id)), "Later freezes should not change ids in the second index");
+    }
+    assertEquals(-1, second.idOf(graph.v3), "A vertex outside an index should have no id in it");
+
+    assertTrue(search.hasStrictlyIncreasingPath(graph.v3, graph.v91), "Expected an increasing path from 3 to 91");
+    assertTrue(search.lastVisited() >= 0, "The search should keep its fast path after other structures are built");
+
+    Practice practice = new Practice();
+    Practice older = new Practice(first);
+    Practice newer = new Practice(second);
+    for (int round = 0; round < 3; round++) {
+      assertEquals(practice.reachable(graph.v3), older.reachable(graph.v3), "The first index should stay correct on round " + round);
+      assertEquals(practice.reachable(graph.v3), older.reachable(graph.v3, TraversalStrategy.DIRECTION_OPTIMIZING),
+          "Direction-optimizing search through the first index should stay correct on round " + round);
+      assertEquals(practice.reachable(graph.v45), newer.reachable(graph.v45), "The second index should stay correct on round " + round);
+      assertEquals(91, older.max(graph.v3), "max through the first index should be 91 on round " + round);
+    }
+  }
+
+  // ---------------------------
+  // Tests for parallel variants
+  // ---------------------------
+
+  @Test
+  public void testReachableParallelComplexGraph_MatchesSequential() {
+    GraphData graph = buildComplexGraph();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Practice practice = new Practice();
+      Practice indexed = new Practice(VertexIndex.freeze(graph.v3));
+      assertEquals(practice.reachable(graph.v3), practice.reachableParallel(graph.v3, pool),
+          "reachableParallel should match reachable");
+      assertEquals(practice.reachable(graph.v3), indexed.reachableParallel(graph.v3, pool),
+          "reachableParallel on an indexed graph should match reachable");
+      assertEquals(91, practice.maxParallel(graph.v3, pool), "maxParallel for complex graph should be 91");
+      assertEquals(91, indexed.maxParallel(graph.v3, pool), "maxParallel on an indexed graph should be 91");
+      assertTrue(practice.reachableParallel(null, pool).isEmpty(), "reachableParallel(null) should return an empty set");
+      assertEquals(Integer.MIN_VALUE, practice.maxParallel(null, pool), "maxParallel(null) should return Integer.MIN_VALUE");
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelLargeGraph_MatchesSequentialAcrossThreadCounts() {
+    List<Vertex<Integer>> vertices = buildRandomGraph(200_000, 3, 42);
+    Vertex<Integer> root = vertices.get(0);
+    Practice practice = new Practice();
+    Practice indexed = new Practice(VertexIndex.freeze(root));
+    Set<Vertex<Integer>> expected = practice.reachable(root);
+    int expectedMax = practice.max(root);
+
+    int maxThreads = Runtime.getRuntime().availableProcessors();
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      try {
+        long begin = System.nanoTime();
+        Set<Vertex<Integer>> actual = indexed.reachableParallel(root, pool);
+        long reachableNanos = System.nanoTime() - begin;
+        begin = System.nanoTime();
+        int actualMax = indexed.maxParallel(root, pool);
+        long maxNanos = System.nanoTime() - begin;
+
+        assertEquals(expected, actual, "reachableParallel should match reachable with " + threads + " threads");
+        assertEquals(expectedMax, actualMax, "maxParallel should match max with " + threads + " threads");
+        assertEquals(expected, practice.reachableParallel(root, pool),
+            "unindexed reachableParallel should match reachable with " + threads + " threads");
+        System.out.printf("parallel scaling: %d threads, reachable %.1f ms, max %.1f ms, %d vertices%n",
+            threads, reachableNanos / 1e6, maxNanos / 1e6, actual.size());
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  // ---------------------------
+  // Tests for traversal strategies
+  // ---------------------------
+
+  @Test
+  public void testReachableStrategies_AllMatchDfs() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    Practice indexed = new Practice(VertexIndex.freeze(graph.v3));
+    Set<Vertex<Integer>> expected = practice.reachable(graph.v3);
+    for (TraversalStrategy strategy : TraversalStrategy.values()) {
+      assertEquals(expected, practice.reachable(graph.v3, strategy), "reachable with " + strategy + " should match DFS");
+      assertEquals(expected, indexed.reachable(graph.v3, strategy), "indexed reachable with " + strategy + " should match DFS");
+      assertEquals(practice.reachable(graph.v91), indexed.reachable(graph.v91, strategy),
+          "indexed reachable from v91 with " + strategy + " should match DFS");
+      assertTrue(practice.reachable(null, strategy).isEmpty(), "reachable(null) with " + strategy + " should be empty");
+    }
+  }
+
+  @Test
+  public void testPrintVertexValsStrategies_PrintSameValues() {
+    GraphData graph = buildComplexGraph();
+    Practice indexed = new Practice(VertexIndex.freeze(graph.v3));
+    Set<String> expected = new HashSet<>(Arrays.asList("3", "7", "34", "12", "45", "56", "78", "91", "23"));
+    for (TraversalStrategy strategy : TraversalStrategy.values()) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      PrintStream originalOut = System.out;
+      System.setOut(new PrintStream(baos));
+      try {
+        indexed.printVertexVals(graph.v3, strategy);
+      } finally {
+        System.out.flush();
+        System.setOut(originalOut);
+      }
+      Set<String> printed = new HashSet<>(Arrays.asList(baos.toString().trim().split(System.lineSeparator())));
+      assertEquals(expected, printed, "printVertexVals with " + strategy + " did not print the expected values");
+    }
+  }
+
+  @Test
+  public void testDirectionOptimizing_SeesEditsAfterInvalidate() {
+    Vertex<Integer> x = new Vertex<>(1);
+    Vertex<Integer> y = new Vertex<>(2);
+    Vertex<Integer> z = new Vertex<>(3);
+    x.neighbors.add(y);
+    y.neighbors.add(z);
+    VertexIndex<Integer> index = VertexIndex.freeze(x);
+    Practice indexed = new Practice(index);
+    assertEquals(3, indexed.reachable(x, TraversalStrategy.DIRECTION_OPTIMIZING).size(), "x should reach x, y and z");
+
+    y.neighbors.clear();
+    index.invalidate();
+    assertEquals(1L, index.version(), "invalidate should increase the version");
+    assertEquals(indexed.reachable(x), indexed.reachable(x, TraversalStrategy.DIRECTION_OPTIMIZING),
+        "A removed edge should be seen after invalidate");
+    y.neighbors.add(z);
+    index.invalidate();
+    assertEquals(3, indexed.reachable(x, TraversalStrategy.DIRECTION_OPTIMIZING).size(), "A restored edge should be seen again");
+    y.neighbors.set(0, x);
+    index.invalidate();
+    assertEquals(new HashSet<>(Arrays.asList(x, y)), indexed.reachable(x, TraversalStrategy.DIRECTION_OPTIMIZING),
+        "An edge replaced in place should be seen");
+
+    // An edge to a vertex added after the freeze cannot be put in a snapshot; every query must
+    // still answer, the same way, through BFS.
+    Vertex<Integer> added = new Vertex<>(4);
+    z.neighbors.add(added);
+    y.neighbors.set(0, z);
+    index.invalidate();
+    Set<Vertex<Integer>> expected = new HashSet<>(Arrays.asList(x, y, z, added));
+    for (int query = 0; query < 2; query++) {
+      assertEquals(expected, indexed.reachable(x, TraversalStrategy.DIRECTION_OPTIMIZING),
+          "A vertex added after the freeze should be reached on query " + query);
+    }
+    assertEquals(expected, indexed.reachable(x, TraversalStrategy.BFS), "BFS should agree");
+
+    z.neighbors.remove(added);
+    index.invalidate();
+    assertEquals(3, indexed.reachable(x, TraversalStrategy.DIRECTION_OPTIMIZING).size(),
+        "Removing the edge to the added vertex should allow a snapshot again");
+  }
+
+  @Test
+  public void testCsrTranspose_ReversesEveryEdge() {
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    CsrGraph<Integer> reverse = csr.transpose();
+    assertEquals(csr.edgeCount(), reverse.edgeCount(), "Transpose should keep every edge");
+    int v91 = idOf(csr, 91);
+    Set<Integer> predecessors = new HashSet<>();
+    for (int i = 0; i < reverse.degree(v91); i++) {
+      predecessors.add(reverse.intValue(reverse.neighbor(v91, i)));
+    }
+    assertEquals(new HashSet<>(Arrays.asList(34, 78)), predecessors, "Transpose neighbors of 91 should be its predecessors");
+  }
+
+  @Test
+  public void testDirectionOptimizingBfs_InspectsFewerEdgesOnWideGraph() {
+    List<Vertex<Integer>> vertices = buildRandomGraph(100_000, 16, 7);
+    BreadthFirstTraversal bfs = new BreadthFirstTraversal(CsrGraph.ofInts(vertices.get(0)));
+
+    BitSet topDown = bfs.topDown(0);
+    long topDownEdges = bfs.edgesInspected();
+    BitSet optimized = bfs.directionOptimizing(0);
+    long optimizedEdges = bfs.edgesInspected();
+
+    assertEquals(topDown, optimized, "Direction-optimizing BFS should reach the same vertices as top-down BFS");
+    assertTrue(optimizedEdges < topDownEdges / 2,
+        "Direction-optimizing BFS should inspect far fewer edges, got " + optimizedEdges + " vs " + topDownEdges);
+    System.out.printf("edge inspections: top-down %d, direction-optimizing %d (%.1fx fewer)%n",
+        topDownEdges, optimizedEdges, (double) topDownEdges / optimizedEdges);
+  }
+
+  // ---------------------------
+  // Tests for IncreasingPathIndex
+  // ---------------------------
+
+  @Test
+  public void testIncreasingPathIndexComplexGraph_MatchesDfsForAllPairs() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    IncreasingPathIndex index = IncreasingPathIndex.build(graph.v3);
+    List<Vertex<Integer>> all = Arrays.asList(graph.v3, graph.v7, graph.v12, graph.v34, graph.v56,
+        graph.v78, graph.v91, graph.v45, graph.v23, graph.v67);
+    for (Vertex<Integer> start : all) {
+      for (Vertex<Integer> end : all) {
+        assertEquals(practice.hasStrictlyIncreasingPath(start, end), index.hasStrictlyIncreasingPath(start, end),
+            "Index disagrees with DFS for " + start.data + " -> " + end.data);
+      }
+    }
+    assertTrue(index.buildNanos() > 0, "Index should report its build time");
+    assertTrue(index.memoryBytes() > 0, "Index should report its memory footprint");
+  }
+
+  @Test
+  public void testIncreasingPathIndexRandomGraph_MatchesDfsForAllPairs() {
+    List<Vertex<Integer>> vertices = buildRandomGraph(300, 2, 11);
+    // Shuffle values so increasing edges do not simply follow construction order.
+    List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < vertices.size(); i++) {
+      values.add(i);
+    }
+    Collections.shuffle(values, new Random(5));
+    for (int i = 0; i < vertices.size(); i++) {
+      vertices.get(i).data = values.get(i);
+    }
+    Practice practice = new Practice();
+    IncreasingPathIndex index = IncreasingPathIndex.build(vertices.get(0));
+    for (Vertex<Integer> start : vertices) {
+      for (Vertex<Integer> end : vertices) {
+        assertEquals(practice.hasStrictlyIncreasingPath(start, end), index.hasStrictlyIncreasingPath(start, end),
+            "Index disagrees with DFS for " + start.data + " -> " + end.data);
+      }
+    }
+  }
+
+  @Test
+  public void testIncreasingPathIndex_FallsBackForVerticesAddedAfterBuild() {
+    GraphData graph = buildComplexGraph();
+    IncreasingPathIndex index = IncreasingPathIndex.build(graph.v3);
+    Vertex<Integer> v100 = new Vertex<>(100);
+    graph.v91.neighbors.add(v100);
+    assertTrue(index.hasStrictlyIncreasingPath(graph.v3, v100),
+        "Queries on vertices added after the build should fall back to DFS");
+    assertThrows(NullPointerException.class, () -> index.hasStrictlyIncreasingPath(null, graph.v7),
+        "hasStrictlyIncreasingPath(null, v7) should throw NullPointerException");
+  }
+
+  // ---------------------------
+  // Tests for DynamicReachability
+  // ---------------------------
+
+  @Test
+  public void testDynamicReachabilityComplexGraph_TracksEdgeUpdates() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    DynamicReachability<Integer> dynamic = new DynamicReachability<>(Comparator.naturalOrder());
+    dynamic.track(graph.v3);
+    dynamic.track(graph.v45);
+    assertEquals(practice.reachable(graph.v3), dynamic.reachable(graph.v3), "Initial reachable set should match");
+    assertEquals(91, dynamic.max(graph.v3), "Initial max should be 91");
+    assertEquals(45, dynamic.max(graph.v45), "Initial max from v45 should be 45");
+
+    dynamic.addEdge(graph.v23, graph.v67);
+    assertEquals(practice.reachable(graph.v45), dynamic.reachable(graph.v45), "Adding 23 -> 67 should extend v45's set");
+    assertEquals(91, dynamic.max(graph.v45), "Adding 23 -> 67 should raise v45's max to 91");
+
+    dynamic.removeEdge(graph.v78, graph.v91);
+    dynamic.removeEdge(graph.v34, graph.v91);
+    assertEquals(practice.reachable(graph.v3), dynamic.reachable(graph.v3), "Removing the edges into 91 should shrink v3's set");
+    assertEquals(91, dynamic.max(graph.v3), "v3 still reaches 91 through 45 -> 23 -> 67");
+    assertEquals(practice.reachable(graph.v45), dynamic.reachable(graph.v45), "v45 still reaches 91 through 67");
+
+    dynamic.removeEdge(graph.v67, graph.v91);
+    assertEquals(practice.reachable(graph.v3), dynamic.reachable(graph.v3), "Removing 67 -> 91 should drop 91 from v3's set");
+    assertEquals(78, dynamic.max(graph.v3), "Removing the last edge into 91 should lower v3's max to 78");
+    assertEquals(67, dynamic.max(graph.v45), "Removing the last edge into 91 should lower v45's max to 67");
+    assertFalse(dynamic.removeEdge(graph.v78, graph.v91), "Removing a missing edge should report false");
+  }
+
+  @Test
+  public void testDynamicReachabilityUntrack_DropsVerticesNoRootReaches() {
+    GraphData graph = buildComplexGraph();
+    Practice practice = new Practice();
+    DynamicReachability<Integer> dynamic = new DynamicReachability<>(Comparator.naturalOrder());
+    dynamic.track(graph.v3);
+    dynamic.track(graph.v45);
+    assertEquals(9, dynamic.knownVertexCount(), "Every vertex reachable from v3 should be known");
+
+    dynamic.untrack(graph.v3);
+    assertEquals(practice.reachable(graph.v45).size(), dynamic.knownVertexCount(),
+        "Untracking v3 should forget every vertex v45 does not reach");
+    dynamic.removeEdge(graph.v45, graph.v23);
+    assertEquals(1, dynamic.knownVertexCount(), "A deletion should forget the vertices it disconnects");
+    dynamic.untrack(graph.v45);
+    assertEquals(0, dynamic.knownVertexCount(), "Untracking the last root should forget everything");
+
+    dynamic.addEdge(graph.v45, graph.v23);
+    dynamic.track(graph.v3);
+    dynamic.removeEdge(graph.v78, graph.v91);
+    dynamic.removeEdge(graph.v34, graph.v91);
+    assertEquals(practice.reachable(graph.v3), dynamic.reachable(graph.v3), "A root tracked again should see later deletions");
+    assertEquals(78, dynamic.max(graph.v3), "A root tracked again should lose 91 once its last edge is removed");
+  }
+
+  @Test
+  public void testDynamicReachabilityRandomUpdates_MatchFullRecomputation() {
+    Random random = new Random(99);
+    List<Vertex<Integer>> vertices = buildRandomGraph(400, 2, 17);
+    Practice practice = new Practice();
+    DynamicReachability<Integer> dynamic = new DynamicReachability<>(Comparator.naturalOrder());
+    List<Vertex<Integer>> roots = Arrays.asList(vertices.get(0), vertices.get(1), vertices.get(2));
+    for (Vertex<Integer> root : roots) {
+      dynamic.track(root);
+    }
+
+    for (int update = 0; update < 1_500; update++) {
+      Vertex<Integer> from = vertices.get(random.nextInt(vertices.size()));
+      if (random.nextBoolean() && !from.neighbors.isEmpty()) {
+        dynamic.removeEdge(from, from.neighbors.get(random.nextInt(from.neighbors.size())));
+      } else {
+        dynamic.addEdge(from, vertices.get(random.nextInt(vertices.size())));
+      }
+      if (update % 100 == 99) {
+        dynamic.untrack(roots.get(1));
+        dynamic.track(roots.get(1));
+      }
+      Set<Vertex<Integer>> union = new HashSet<>();
+      for (Vertex<Integer> root : roots) {
+        assertEquals(practice.reachable(root), dynamic.reachable(root),
+            "Reachable set from " + root.data + " should match after update " + update);
+        assertEquals(practice.max(root), (int) dynamic.max(root),
+            "Max from " + root.data + " should match after update " + update);
+        union.addAll(dynamic.reachable(root));
+      }
+      assertEquals(union.size(), dynamic.knownVertexCount(), "Only reachable vertices should be known after update " + update);
+    }
+  }
+
+  // ---------------------------
+  // Tests for memory-mapped binary graphs
+  // ---------------------------
+
+  @Test
+  public void testBinaryGraphRoundTrip_ComplexGraphMatchesCsr() throws IOException {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildComplexGraph().v3);
+    Path file = Files.createTempFile("complex", ".graph");
+    try {
+      BinaryGraph.write(csr, file);
+      BinaryGraph mapped = BinaryGraph.open(file);
+
+      assertEquals(csr.vertexCount(), mapped.vertexCount(), "Mapped graph should have the same vertex count");
+      assertEquals(csr.edgeCount(), mapped.edgeCount(), "Mapped graph should have the same edge count");
+      for (int id = 0; id < csr.vertexCount(); id++) {
+        assertEquals(practice.reachable(csr, id), practice.reachable(mapped, id), "reachable differs from id " + id);
+        assertEquals(practice.max(csr, id), practice.max(mapped, id), "max differs from id " + id);
+        assertEquals(practice.leaves(csr, id), practice.leaves(mapped, id), "leaves differs from id " + id);
+        for (int end = 0; end < csr.vertexCount(); end++) {
+          assertEquals(practice.hasStrictlyIncreasingPath(csr, id, end), practice.hasStrictlyIncreasingPath(mapped, id, end),
+              "hasStrictlyIncreasingPath differs from id " + id + " to id " + end);
+        }
+      }
+      assertThrows(IndexOutOfBoundsException.class, () -> practice.max(mapped, mapped.vertexCount()),
+          "max on an out-of-range id should throw IndexOutOfBoundsException");
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testBinaryGraphRoundTrip_RandomGraphKeepsEveryEdge() throws IOException {
+    Practice practice = new Practice();
+    Vertex<Integer> root = buildRandomGraph(2_000, 3, 29).get(0);
+    Path file = Files.createTempFile("random", ".graph");
+    try {
+      BinaryGraph.write(root, value -> value * 2, file);
+      CsrGraph<Integer> copy = BinaryGraph.open(file).toCsrGraph();
+      CsrGraph<Integer> original = CsrGraph.ofInts(root);
+
+      assertArrayEquals(original.offsets(), copy.offsets(), "Offsets should survive the round trip");
+      assertArrayEquals(original.targets(), copy.targets(), "Targets should survive the round trip");
+      for (int id = 0; id < original.vertexCount(); id++) {
+        assertEquals(original.intValue(id) * 2, copy.intValue(id), "Values should be written through the encoder");
+      }
+      assertEquals(practice.max(root) * 2, practice.max(BinaryGraph.open(file), 0),
+          "max on the mapped graph should see the encoded values");
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testBinaryGraphRepeatedQueries_ReuseScratchWithoutLeakingVisits() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildRandomGraph(1_000, 3, 41).get(0));
+    BinaryGraph graph = BinaryGraph.offHeap(csr);
+    int n = csr.vertexCount();
+
+    for (int id = 0; id < n; id += 7) {
+      int end = (id * 31 + 5) % n;
+      assertEquals(practice.hasStrictlyIncreasingPath(csr, id, end), practice.hasStrictlyIncreasingPath(graph, id, end),
+          "hasStrictlyIncreasingPath differs from id " + id + " to id " + end);
+      assertThrows(IllegalStateException.class, () -> graph.traverse(0, current -> {
+        throw new IllegalStateException("Stopped");
+      }), "A throwing visitor should propagate its exception");
+      assertEquals(practice.max(csr, id), practice.max(graph, id), "max differs from id " + id);
+      assertEquals(practice.leaves(csr, id), practice.leaves(graph, id), "leaves differs from id " + id);
+      assertEquals(practice.reachable(csr, id), practice.reachable(graph, id), "reachable differs from id " + id);
+    }
+  }
+
+  @Test
+  public void testBinaryGraphOpen_RejectsForeignAndTruncatedFiles() throws IOException {
+    Path file = Files.createTempFile("broken", ".graph");
+    try {
+      Files.write(file, "3 -> 7, 34\n".getBytes(StandardCharsets.UTF_8));
+      assertThrows(IOException.class, () -> BinaryGraph.open(file), "A text file should not open as a binary graph");
+
+      BinaryGraph.write(buildComplexGraph().v3, file);
+      byte[] bytes = Files.readAllBytes(file);
+      Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+      assertThrows(IOException.class, () -> BinaryGraph.open(file), "A truncated file should not open");
+    } finally {
+      Files.delete(file);
+    }
+    assertThrows(NullPointerException.class, () -> BinaryGraph.open(null), "open(null) should throw NullPointerException");
+  }
+
+  // ---------------------------
+  // Tests for batched multi-source queries
+  // ---------------------------
+
+  @Test
+  public void testReachableAllComplexGraph_MatchesSingleQueries() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    List<Vertex<Integer>> sources = Arrays.asList(graph.v3, graph.v91, null, graph.v45, graph.v67, graph.v91, graph.v23);
+
+    List<Set<Vertex<Integer>>> result = practice.reachableAll(sources);
+
+    assertEquals(sources.size(), result.size(), "reachableAll should return one set per source");
+    for (int i = 0; i < sources.size(); i++) {
+      assertEquals(practice.reachable(sources.get(i)), result.get(i), "reachableAll differs for source " + i);
+    }
+    assertThrows(NullPointerException.class, () -> practice.reachableAll(null), "reachableAll(null) should throw NullPointerException");
+  }
+
+  @Test
+  public void testReachableBatchRandomGraph_MatchesPerSourceQueries() {
+    Practice practice = new Practice();
+    // Out-degree 1 gives every source a different path into a cycle, so the sets differ.
+    CsrGraph<Integer> csr = CsrGraph.ofInts(VertexIndex.freeze(buildRandomGraph(3_000, 1, 31).get(0)));
+    Random random = new Random(37);
+    int[] sources = new int[200];
+    for (int i = 0; i < sources.length; i++) {
+      sources[i] = random.nextInt(csr.vertexCount());
+    }
+    sources[sources.length - 1] = sources[0];
+
+    BitSet[] result = practice.reachable(csr, sources);
+
+    for (int i = 0; i < sources.length; i++) {
+      assertEquals(practice.reachable(csr, sources[i]), result[i], "Batched reachable differs for source " + sources[i]);
+    }
+    result[0].clear();
+    assertFalse(result[sources.length - 1].isEmpty(), "A repeated source should get its own copy of the result");
+    assertEquals(2, practice.reachable((CsrGraph<Integer>) null, new int[] {0, 1}).length,
+        "A null CSR graph should give one empty set per source");
+  }
+
+  @Test
+  public void testHasStrictlyIncreasingPathsRandomPairs_MatchSingleQueries() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> vertices = buildRandomGraph(2_000, 3, 41);
+    CsrGraph<Integer> csr = CsrGraph.ofInts(vertices.get(0));
+    Random random = new Random(43);
+    int[] idOfValue = new int[vertices.size()];
+    Arrays.fill(idOfValue, -1);
+    for (int id = 0; id < csr.vertexCount(); id++) {
+      idOfValue[csr.intValue(id)] = id;
+    }
+    int pairs = 300;
+    int[] starts = new int[pairs];
+    int[] ends = new int[pairs];
+    List<Vertex<Integer>> startVertices = new ArrayList<>();
+    List<Vertex<Integer>> endVertices = new ArrayList<>();
+    for (int i = 0; i < pairs; i++) {
+      // Few distinct starts with small values, so many pairs share one traversal and some succeed.
+      do {
+        starts[i] = idOfValue[random.nextInt(100)];
+      } while (starts[i] < 0);
+      ends[i] = random.nextInt(csr.vertexCount());
+      startVertices.add(vertices.get(csr.intValue(starts[i])));
+      endVertices.add(vertices.get(csr.intValue(ends[i])));
+    }
+
+    boolean[] batched = practice.hasStrictlyIncreasingPaths(csr, starts, ends);
+    boolean[] batchedVertices = practice.hasStrictlyIncreasingPaths(startVertices, endVertices);
+
+    int found = 0;
+    for (int i = 0; i < pairs; i++) {
+      boolean expected = practice.hasStrictlyIncreasingPath(csr, starts[i], ends[i]);
+      assertEquals(expected, batched[i], "Batched CSR path query differs for pair " + i);
+      assertEquals(expected, batchedVertices[i], "Batched vertex path query differs for pair " + i);
+      if (expected) found++;
+    }
+    assertTrue(found > 0, "The random pairs should include some increasing paths");
+  }
+
+  @Test
+  public void testHasStrictlyIncreasingPathsComplexGraph_HandlesUnreachableEnds() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    boolean[] answers = practice.hasStrictlyIncreasingPaths(
+        Arrays.asList(graph.v3, graph.v12, graph.v3, graph.v45),
+        Arrays.asList(graph.v91, graph.v7, graph.v67, graph.v45));
+
+    assertTrue(answers[0], "Expected a strictly increasing path from vertex 3 to vertex 91");
+    assertFalse(answers[1], "Expected no strictly increasing path from vertex 12 to vertex 7");
+    assertFalse(answers[2], "Vertex 67 is not reachable from vertex 3");
+    assertTrue(answers[3], "A vertex should reach itself");
+    assertThrows(IllegalArgumentException.class,
+        () -> practice.hasStrictlyIncreasingPaths(Arrays.asList(graph.v3), Arrays.asList(graph.v7, graph.v12)),
+        "Pairs of different lengths should throw IllegalArgumentException");
+    assertThrows(NullPointerException.class,
+        () -> practice.hasStrictlyIncreasingPaths(Arrays.asList(graph.v3, null), Arrays.asList(graph.v7, graph.v12)),
+        "A null start should throw NullPointerException");
+  }
+
+  // ---------------------------
+  // Tests for traversal metrics
+  // ---------------------------
+
+  @Test
+  public void testTraversalMetricsComplexGraph_CountsVerticesEdgesAndRevisits() {
+    TraversalMetrics metrics = new TraversalMetrics();
+    Practice practice = new Practice(metrics);
+    GraphData graph = buildComplexGraph();
+
+    assertEquals(9, practice.reachable(graph.v3).size(), "reachable from v3 should return 9 vertices");
+
+    assertEquals(1, metrics.traversals(), "One traversal should be recorded");
+    assertEquals(9, metrics.verticesVisited(), "Every reachable vertex should be counted once");
+    assertEquals(15, metrics.edgesScanned(), "Every edge out of a reachable vertex should be scanned once");
+    // 8 of the 15 edges discover a new vertex; the rest lead back to one already visited.
+    assertEquals(7, metrics.revisitsSkipped(), "Edges to visited vertices should be counted as revisits");
+    assertTrue(metrics.maxFrontier() >= 1, "The frontier should hold at least the root");
+    assertTrue(metrics.wallNanos() > 0, "Wall time should be recorded");
+    assertSame(graph.v3, metrics.slowest().root(), "The only sample should be the slowest");
+
+    practice.max(graph.v45);
+    assertEquals(2, metrics.traversals(), "A second traversal should be recorded");
+    assertEquals(11L, (long) metrics.counters().get("verticesVisited"), "Counters should export the running totals");
+
+    metrics.reset();
+    assertEquals(0, metrics.traversals(), "reset should clear the totals");
+    assertNull(metrics.slowest(), "reset should clear the slowest sample");
+  }
+
+  @Test
+  public void testTraversalMetricsSlowestSample_DoesNotKeepTheGraphAlive() throws InterruptedException {
+    TraversalMetrics metrics = new TraversalMetrics();
+    WeakReference<Vertex<Integer>> root = traverseDroppedGraph(new Practice(metrics));
+    for (int attempt = 0; attempt < 50 && root.get() != null; attempt++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(root.get(), "The slowest sample should not keep a dropped graph reachable");
+    assertNull(metrics.slowest().root(), "The root of a collected graph should read as null");
+    assertEquals(1_000, metrics.slowest().verticesVisited(), "The sample should keep its counts");
+  }
+
+  private static WeakReference<Vertex<Integer>> traverseDroppedGraph(Practice practice) {
+    List<Vertex<Integer>> chain = GraphGenerator.chain(1_000);
+    assertEquals(999, practice.max(chain.get(0)), "max of the chain should be its last value");
+    return new WeakReference<>(chain.get(0));
+  }
+
+  @Test
+  public void testTraversalMetricsIndexedPractice_ReportsEverySample() {
+    List<TraversalMetrics.Sample> samples = new ArrayList<>();
+    TraversalMetrics metrics = new TraversalMetrics() {
+      @Override
+      protected void onSample(TraversalMetrics.Sample sample) {
+        samples.add(sample);
+      }
+    };
+    List<Vertex<Integer>> chain = buildChain(1_000);
+    Practice practice = new Practice(VertexIndex.freeze(chain.get(0)), metrics);
+
+    practice.max(chain.get(0));
+    practice.hasStrictlyIncreasingPath(chain.get(500), chain.get(0));
+    practice.reachable(chain.get(10), TraversalStrategy.BFS);
+    practice.max(null);
+
+    assertEquals(3, samples.size(), "Each non-null traversal should produce one sample");
+    assertEquals(1_000, samples.get(0).verticesVisited(), "max from the head should visit the whole chain");
+    assertEquals(1, samples.get(0).maxFrontier(), "A chain never holds more than one vertex on the stack");
+    assertEquals(1, samples.get(1).verticesVisited(), "No vertex after 500 holds a value below 0, so the search should stop at 500");
+    assertEquals(990, samples.get(2).verticesVisited(), "BFS from 10 should visit the rest of the chain");
+    assertThrows(NullPointerException.class, () -> new Practice((TraversalMetrics) null),
+        "A null metrics should throw NullPointerException");
+  }
+
+  @Test
+  public void testTraversalMetricsJfrEvents_AreRecorded() throws IOException {
+    Practice practice = new Practice(new TraversalMetrics(true));
+    GraphData graph = buildComplexGraph();
+    Path file = Files.createTempFile("traversal", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("dfs.Traversal");
+      recording.start();
+      practice.leaves(graph.v3);
+      recording.stop();
+      recording.dump(file);
+
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      assertEquals(1, events.size(), "One traversal event should be recorded");
+      assertEquals("3", events.get(0).getString("root"), "The event should name the root");
+      assertEquals(9, events.get(0).getLong("verticesVisited"), "The event should carry the vertex count");
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  // ---------------------------
+  // Tests for bidirectional increasing-path search
+  // ---------------------------
+
+  @Test
+  public void testHasStrictlyIncreasingPathEqualValues_AreNotIncreasing() {
+    Vertex<Integer> a = new Vertex<>(1);
+    Vertex<Integer> b = new Vertex<>(1);
+    Vertex<Integer> c = new Vertex<>(2);
+    a.neighbors.add(b);
+    b.neighbors.add(c);
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(a);
+
+    assertFalse(practice.hasStrictlyIncreasingPath(a, c), "An equal step should break a strictly increasing path");
+    assertFalse(practice.hasStrictlyIncreasingPath(csr, 0, 2), "An equal step should break a strictly increasing path on CSR graph");
+    assertFalse(practice.hasStrictlyIncreasingPaths(csr, new int[] {0}, new int[] {2})[0],
+        "An equal step should break a strictly increasing path in a batch");
+    assertFalse(BidirectionalPathSearch.build(a).hasStrictlyIncreasingPath(a, c),
+        "An equal step should break a strictly increasing path in a bidirectional search");
+    assertTrue(practice.hasStrictlyIncreasingPath(b, c), "A single increasing edge is a strictly increasing path");
+  }
+
+  @Test
+  public void testBidirectionalPathSearchComplexGraph_MatchesPractice() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    BidirectionalPathSearch search = BidirectionalPathSearch.build(graph.v3);
+    List<Vertex<Integer>> all = Arrays.asList(graph.v3, graph.v7, graph.v12, graph.v34, graph.v56,
+        graph.v78, graph.v91, graph.v45, graph.v23, graph.v67);
+
+    for (Vertex<Integer> start : all) {
+      for (Vertex<Integer> end : all) {
+        assertEquals(practice.hasStrictlyIncreasingPath(start, end), search.hasStrictlyIncreasingPath(start, end),
+            "Bidirectional search differs from " + start.data + " to " + end.data);
+      }
+    }
+    // v67 is not reachable from v3, so it is answered by Practice instead.
+    assertEquals(-1, search.lastVisited(), "A vertex outside the search should fall back to Practice");
+    assertThrows(NullPointerException.class, () -> search.hasStrictlyIncreasingPath(null, graph.v7),
+        "hasStrictlyIncreasingPath(null, v7) should throw NullPointerException");
+  }
+
+  @Test
+  public void testBidirectionalPathSearchRandomGraph_MatchesAndVisitsLess() {
+    // Values repeat, so equal steps are common and must be rejected by every implementation.
+    Random random = new Random(47);
+    List<Vertex<Integer>> vertices = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      vertices.add(new Vertex<>(random.nextInt(5_000)));
+    }
+    for (Vertex<Integer> v : vertices) {
+      for (int d = 0; d < 4; d++) {
+        v.neighbors.add(vertices.get(random.nextInt(vertices.size())));
+      }
+    }
+    Vertex<Integer> root = vertices.get(0);
+    // Queries stay inside the indexed graph, so every one must be answered by the search itself.
+    Set<Vertex<Integer>> reached = new Practice().reachable(root);
+    List<Vertex<Integer>> indexed = vertices.stream().filter(reached::contains).collect(Collectors.toList());
+    TraversalMetrics metrics = new TraversalMetrics();
+    Practice practice = new Practice(metrics);
+    // Built second on the same vertices, the index must not disturb the search built first.
+    BidirectionalPathSearch search = BidirectionalPathSearch.build(root);
+    IncreasingPathIndex index = IncreasingPathIndex.build(root);
+
+    long bidirectionalVisited = 0;
+    int found = 0;
+    for (int q = 0; q < 300; q++) {
+      Vertex<Integer> start = indexed.get(random.nextInt(indexed.size()));
+      Vertex<Integer> end = indexed.get(random.nextInt(indexed.size()));
+      if (q % 2 == 0) {
+        // Half of the queries end on a random increasing walk from the start, so some succeed.
+        end = start;
+        for (int step = 0; step < 6; step++) {
+          Vertex<Integer> next = end.neighbors.get(random.nextInt(end.neighbors.size()));
+          if (next.data > end.data) end = next;
+        }
+      }
+      boolean expected = practice.hasStrictlyIncreasingPath(start, end);
+      assertEquals(expected, search.hasStrictlyIncreasingPath(start, end), "Bidirectional search differs on query " + q);
+      assertTrue(search.lastVisited() >= 0, "Bidirectional search should not fall back to Practice on query " + q);
+      assertEquals(expected, index.hasStrictlyIncreasingPath(start, end), "Increasing-path index differs on query " + q);
+      bidirectionalVisited += search.lastVisited();
+      if (expected) found++;
+    }
+    assertTrue(found > 0, "The random queries should include some increasing paths");
+    assertTrue(bidirectionalVisited < metrics.verticesVisited(),
+        "Bidirectional search should visit fewer vertices: " + bidirectionalVisited + " vs " + metrics.verticesVisited());
+  }
+
+  // ---------------------------
+  // Tests for primitive IntVertex graphs
+  // ---------------------------
+
+  private Set<Integer> valuesOf(Set<IntVertex> vertices) {
+    Set<Integer> values = new HashSet<>();
+    for (IntVertex v : vertices) {
+      values.add(v.data());
+    }
+    return values;
+  }
+
+  @Test
+  public void testIntVertexCopyOfComplexGraph_MatchesPractice() {
+    Practice practice = new Practice();
+    IntPractice intPractice = new IntPractice();
+    GraphData graph = buildComplexGraph();
+    List<Vertex<Integer>> originals = CsrGraph.of(graph.v3).toVertices();
+    List<IntVertex> copies = IntVertex.copyOf(graph.v3);
+
+    assertEquals(9, copies.size(), "copyOf should copy the 9 vertices reachable from v3");
+    assertEquals(3, copies.get(0).data(), "The copy of the root should come first");
+    assertEquals(2, copies.get(0).degree(), "The copy of v3 should keep both edges");
+    for (int i = 0; i < copies.size(); i++) {
+      Set<Integer> expected = new HashSet<>();
+      for (Vertex<Integer> v : practice.reachable(originals.get(i))) {
+        expected.add(v.data);
+      }
+      assertEquals(expected, valuesOf(intPractice.reachable(copies.get(i))), "reachable differs from " + copies.get(i).data());
+      assertEquals(practice.max(originals.get(i)), intPractice.max(copies.get(i)), "max differs from " + copies.get(i).data());
+      for (int j = 0; j < copies.size(); j++) {
+        assertEquals(practice.hasStrictlyIncreasingPath(originals.get(i), originals.get(j)),
+            intPractice.hasStrictlyIncreasingPath(copies.get(i), copies.get(j)),
+            "hasStrictlyIncreasingPath differs from " + copies.get(i).data() + " to " + copies.get(j).data());
+      }
+    }
+  }
+
+  @Test
+  public void testIntPracticeNullAndEdgeCases_MatchPracticeContract() {
+    IntPractice intPractice = new IntPractice();
+    assertTrue(intPractice.reachable(null).isEmpty(), "reachable(null) should return an empty set");
+    assertEquals(Integer.MIN_VALUE, intPractice.max(null), "max(null) should return Integer.MIN_VALUE");
+    IntVertex single = new IntVertex(-5);
+    assertThrows(NullPointerException.class, () -> intPractice.hasStrictlyIncreasingPath(null, single),
+        "hasStrictlyIncreasingPath(null, v) should throw NullPointerException");
+    assertThrows(NullPointerException.class, () -> single.addNeighbor(null), "addNeighbor(null) should throw NullPointerException");
+    assertThrows(IndexOutOfBoundsException.class, () -> single.neighbor(0), "neighbor out of range should throw");
+
+    single.addNeighbor(single);
+    assertEquals(-5, intPractice.max(single), "max with a self-loop should be the vertex's own value");
+    assertTrue(intPractice.hasStrictlyIncreasingPath(single, single), "A vertex should reach itself");
+  }
+
+  @Test
+  public void testIntVertexRandomGraph_MatchesPractice() {
+    Practice practice = new Practice();
+    IntPractice intPractice = new IntPractice();
+    Vertex<Integer> root = buildRandomGraph(5_000, 3, 53).get(0);
+    List<Vertex<Integer>> originals = CsrGraph.of(root).toVertices();
+    List<IntVertex> copies = IntVertex.copyOf(root);
+    Random random = new Random(59);
+
+    for (int q = 0; q < 200; q++) {
+      int s = random.nextInt(copies.size());
+      int e = random.nextInt(copies.size());
+      assertEquals(practice.max(originals.get(s)), intPractice.max(copies.get(s)), "max differs on query " + q);
+      assertEquals(practice.reachable(originals.get(s)).size(), intPractice.reachable(copies.get(s)).size(),
+          "reachable size differs on query " + q);
+      assertEquals(practice.hasStrictlyIncreasingPath(originals.get(s), originals.get(e)),
+          intPractice.hasStrictlyIncreasingPath(copies.get(s), copies.get(e)), "hasStrictlyIncreasingPath differs on query " + q);
+    }
+  }
+
+  // ---------------------------
+  // Tests for concurrent graph snapshots
+  // ---------------------------
+
+  @Test
+  public void testSnapshotGraphPublish_OldSnapshotsUnchanged() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    SnapshotGraph<Integer> snapshots = SnapshotGraph.of(graph.v3);
+    GraphSnapshot<Integer> first = snapshots.snapshot();
+    assertEquals(0L, first.version(), "The initial snapshot should be version 0");
+    assertEquals(9, first.vertexCount(), "The initial snapshot should hold the 9 vertices reachable from v3");
+    assertEquals(3, (int) first.value(0), "The root should have id 0");
+
+    int added = snapshots.addVertex(100);
+    snapshots.addEdge(0, added);
+    assertSame(first, snapshots.snapshot(), "Edits should not be visible before publish");
+
+    GraphSnapshot<Integer> second = snapshots.publish();
+    assertSame(second, snapshots.snapshot(), "publish should make the new snapshot current");
+    assertEquals(1L, second.version(), "publish should increase the version by one");
+    assertEquals(10, second.vertexCount(), "The new snapshot should hold the added vertex");
+    assertEquals(100, practice.max(second, 0), "The added vertex should be reachable in the new snapshot");
+    assertEquals(91, practice.max(first, 0), "The old snapshot should not see the added vertex");
+    assertEquals(2, first.degree(0), "The old snapshot should keep its edges");
+    assertSame(second, snapshots.publish(), "publish without edits should keep the current snapshot");
+
+    assertTrue(snapshots.removeEdge(0, added), "removeEdge should remove an existing edge");
+    assertFalse(snapshots.removeEdge(0, added), "removeEdge should report a missing edge");
+    GraphSnapshot<Integer> third = snapshots.publish();
+    assertEquals(2L, third.version(), "Every publish with edits should increase the version");
+    assertFalse(practice.reachable(third, 0).get(added), "The removed edge should be gone from the new snapshot");
+    assertTrue(practice.reachable(second, 0).get(added), "The removed edge should remain in the older snapshot");
+
+    assertThrows(IndexOutOfBoundsException.class, () -> snapshots.addEdge(0, 10), "addEdge to a missing vertex should throw");
+    assertThrows(IndexOutOfBoundsException.class, () -> third.degree(10), "degree of a missing vertex should throw");
+    assertThrows(NullPointerException.class, () -> snapshots.update(null), "update(null) should throw NullPointerException");
+  }
+
+  @Test
+  public void testSnapshotGraphComplexGraph_MatchesPractice() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    CsrGraph<Integer> csr = CsrGraph.of(graph.v3);
+    GraphSnapshot<Integer> snapshot = SnapshotGraph.of(graph.v3).snapshot();
+
+    for (int s = 0; s < csr.vertexCount(); s++) {
+      assertEquals(practice.reachable(csr, s), practice.reachable(snapshot, s), "reachable differs from " + s);
+      assertEquals(practice.max(csr, s), practice.max(snapshot, s), "max differs from " + s);
+      assertEquals(practice.leaves(csr, s), practice.leaves(snapshot, s), "leaves differs from " + s);
+      for (int e = 0; e < csr.vertexCount(); e++) {
+        assertEquals(practice.hasStrictlyIncreasingPath(csr, s, e), practice.hasStrictlyIncreasingPath(snapshot, s, e),
+            "hasStrictlyIncreasingPath differs from " + s + " to " + e);
+      }
+    }
+
+    assertTrue(practice.reachable((GraphSnapshot<Integer>) null, 0).isEmpty(), "reachable on a null snapshot should be empty");
+    assertTrue(practice.leaves((GraphSnapshot<Integer>) null, 0).isEmpty(), "leaves on a null snapshot should be empty");
+    assertEquals(Integer.MIN_VALUE, practice.max((GraphSnapshot<Integer>) null, 0), "max on a null snapshot should be Integer.MIN_VALUE");
+    assertThrows(NullPointerException.class, () -> practice.hasStrictlyIncreasingPath((GraphSnapshot<Integer>) null, 0, 0),
+        "hasStrictlyIncreasingPath on a null snapshot should throw NullPointerException");
+  }
+
+  @Test
+  public void testSnapshotGraphConcurrentReaders_SeeWholeBatches() throws InterruptedException {
+    Practice practice = new Practice();
+    SnapshotGraph<Integer> snapshots = SnapshotGraph.of(buildRandomGraph(2_000, 3, 61).get(0));
+    int base = snapshots.snapshot().vertexCount();
+    int publishes = 300;
+    List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+    // Each batch adds a vertex, links it from the root and then moves one old edge, so a reader
+    // that saw part of a batch would count the wrong number of vertices.
+    Thread writer = new Thread(() -> {
+      Random random = new Random(67);
+      for (int i = 0; i < publishes; i++) {
+        int value = -i;
+        snapshots.update(g -> {
+          int added = g.addVertex(value);
+          g.addEdge(0, added);
+          int from = 1 + random.nextInt(added - 1);
+          GraphSnapshot<Integer> current = g.snapshot();
+          if (current.degree(from) > 0) {
+            int to = current.neighbor(from, 0);
+            g.removeEdge(from, to);
+            g.addEdge(from, to);
+          }
+        });
+      }
+    });
+    Thread[] readers = new Thread[2];
+    for (int r = 0; r < readers.length; r++) {
+      readers[r] = new Thread(() -> {
+        long last = -1;
+        while (last < publishes) {
+          GraphSnapshot<Integer> snapshot = snapshots.snapshot();
+          long version = snapshot.version();
+          if (version < last) failures.add("Version went back from " + last + " to " + version);
+          if (snapshot.vertexCount() != base + version) failures.add("Version " + version + " has " + snapshot.vertexCount() + " vertices");
+          int reached = practice.reachable(snapshot, 0).cardinality();
+          if (reached != base + version) failures.add("Version " + version + " reaches " + reached + " vertices");
+          last = version;
+        }
+      });
+    }
+
+    for (Thread reader : readers) {
+      reader.start();
+    }
+    writer.start();
+    writer.join();
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    assertEquals(List.of(), failures, "Readers should only ever see whole, published batches");
+    assertEquals((long) publishes, snapshots.snapshot().version(), "Every batch should be published once");
+  }
+
+  // ---------------------------
+  // Tests for the query result cache
+  // ---------------------------
+
+  @Test
+  public void testCachingPracticeRepeatedQueries_HitAndMatchPractice() {
+    Practice practice = new Practice();
+    CachingPractice cache = new CachingPractice(16);
+    GraphData graph = buildComplexGraph();
+
+    Set<Vertex<Integer>> first = cache.reachable(graph.v3);
+    assertEquals(practice.reachable(graph.v3), first, "A cached reachable set should match Practice");
+    assertSame(first, cache.reachable(graph.v3), "A repeated query should return the cached set");
+    assertEquals(practice.max(graph.v7), cache.max(graph.v7), "A cached max should match Practice");
+    assertEquals(practice.max(graph.v7), cache.max(graph.v7), "A repeated max should match Practice");
+    assertEquals(practice.leaves(graph.v12), cache.leaves(graph.v12), "Cached leaves should match Practice");
+    assertThrows(UnsupportedOperationException.class, () -> first.add(graph.v67), "A cached set should be unmodifiable");
+    assertThrows(UnsupportedOperationException.class, () -> cache.leaves(graph.v12).clear(), "Cached leaves should be unmodifiable");
+
+    CachingPractice.Stats stats = cache.stats();
+    assertEquals(3L, stats.misses(), "Each (operation, root) pair should miss once");
+    assertEquals(3L, stats.hits(), "Repeated queries should hit");
+    assertEquals(0.5, stats.hitRate(), 1e-9, "The hit rate should be hits over all queries");
+    assertEquals(3, stats.entries(), "Three results should be cached");
+    assertTrue(stats.estimatedBytes() > 0, "Cached results should have an estimated size");
+
+    assertTrue(cache.reachable(null).isEmpty(), "reachable(null) should return an empty set");
+    assertEquals(Integer.MIN_VALUE, cache.max(null), "max(null) should return Integer.MIN_VALUE");
+    assertEquals(3, cache.stats().entries(), "Null roots should not be cached");
+    assertThrows(IllegalArgumentException.class, () -> new CachingPractice(0), "A cache must hold at least one result");
+    assertThrows(NullPointerException.class, () -> new CachingPractice(null, 1), "A null delegate should be rejected");
+  }
+
+  @Test
+  public void testCachingPracticeEdits_InvalidateResults() {
+    CachingPractice cache = new CachingPractice(16);
+    GraphData graph = buildComplexGraph();
+    assertEquals(45, cache.max(graph.v45), "max(v45) should be 45 before any edit");
+    assertEquals(Set.of(graph.v23), cache.leaves(graph.v45), "v23 should be the only leaf below v45");
+
+    cache.addEdge(graph.v23, graph.v91);
+    assertEquals(1L, cache.version(), "addEdge should increase the version");
+    assertEquals(0, cache.stats().entries(), "addEdge should drop every cached result");
+    assertEquals(91, cache.max(graph.v45), "max(v45) should see the added edge");
+    assertEquals(Set.of(), cache.leaves(graph.v45), "v23 should no longer be a leaf");
+
+    assertTrue(cache.removeEdge(graph.v23, graph.v91), "removeEdge should remove the added edge");
+    assertFalse(cache.removeEdge(graph.v23, graph.v91), "removeEdge should report a missing edge");
+    assertEquals(2L, cache.version(), "Only a successful removeEdge should increase the version");
+    assertEquals(45, cache.max(graph.v45), "max(v45) should see the removed edge");
+
+    graph.v23.neighbors.add(new Vertex<>(50));
+    assertEquals(45, cache.max(graph.v45), "A direct edit is not seen before invalidate");
+    cache.invalidate();
+    assertEquals(50, cache.max(graph.v45), "invalidate should drop results computed before a direct edit");
+    assertEquals(3L, cache.stats().invalidations(), "Every version increase should be counted");
+
+    Vertex<Integer> bare = new Vertex<>(60, null);
+    assertFalse(cache.removeEdge(bare, graph.v3), "removeEdge from a vertex with no neighbor list should report no edge");
+    assertEquals(3L, cache.version(), "A removeEdge that found nothing should not increase the version");
+    cache.addEdge(bare, graph.v91);
+    assertEquals(List.of(graph.v91), bare.neighbors, "addEdge should create a missing neighbor list");
+    assertEquals(91, cache.max(bare), "max should follow an edge added to a vertex with no neighbor list");
+  }
+
+  @Test
+  public void testCachingPracticeEditsDuringQueries_NeverCorruptTraversals() throws Exception {
+    // The root's long neighbor list keeps traversals iterating it while the writer edits it.
+    Vertex<Integer> root = new Vertex<>(0);
+    Vertex<Integer> leaf = new Vertex<>(1);
+    Vertex<Integer> extra = new Vertex<>(2);
+    for (int i = 0; i < 200_000; i++) {
+      root.neighbors.add(leaf);
+    }
+    CachingPractice cache = new CachingPractice(16);
+    ExecutorService readers = Executors.newFixedThreadPool(2);
+    CountDownLatch done = new CountDownLatch(2);
+    try {
+      List<CompletableFuture<Void>> queries = new ArrayList<>();
+      for (int reader = 0; reader < 2; reader++) {
+        queries.add(CompletableFuture.runAsync(() -> {
+          try {
+            for (int q = 0; q < 200; q++) {
+              int max = cache.max(root);
+              assertTrue(max == 1 || max == 2, "max should describe the graph before or after an edit: " + max);
+            }
+          } finally {
+            done.countDown();
+          }
+        }, readers));
+      }
+      while (done.getCount() > 0) {
+        cache.addEdge(root, extra);
+        cache.removeEdge(root, extra);
+      }
+      for (CompletableFuture<Void> query : queries) {
+        query.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      readers.shutdownNow();
+    }
+    assertEquals(1, cache.max(root), "The last edit removed the extra edge");
+  }
+
+  @Test
+  public void testCachingPracticeFull_EvictsLeastRecentlyUsed() {
+    CachingPractice cache = new CachingPractice(2);
+    GraphData graph = buildComplexGraph();
+    cache.max(graph.v3);
+    cache.max(graph.v7);
+    cache.max(graph.v3);
+    cache.max(graph.v12);
+
+    CachingPractice.Stats stats = cache.stats();
+    assertEquals(1L, stats.evictions(), "Adding a third result to a cache of two should evict one");
+    assertEquals(2, stats.entries(), "The cache should stay within its bound");
+    cache.max(graph.v3);
+    assertEquals(2L, cache.stats().hits(), "The recently used v3 should have been kept");
+    cache.max(graph.v7);
+    assertEquals(4L, cache.stats().misses(), "The least recently used v7 should have been evicted");
+  }
+
+  // ---------------------------
+  // Tests for the asynchronous query facade
+  // ---------------------------
+
+  /**
+   * Returns the first vertex of a chain that never ends: each vertex creates its successor when its
+   * neighbor list is read. Started records that the traversal has begun.
+   */
+  private static Vertex<Integer> endlessChain(int value, CountDownLatch started) {
+    return new Vertex<>(value, new AbstractList<Vertex<Integer>>() {
+      @Override
+      public Vertex<Integer> get(int index) {
+        started.countDown();
+        return endlessChain(value + 1, started);
+      }
+
+      @Override
+      public int size() {
+        return 1;
+      }
+    });
+  }
+
+  @Test
+  public void testAsyncPracticeQueries_MatchPractice() throws Exception {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    try (AsyncPractice async = new AsyncPractice()) {
+      CompletableFuture<Set<Vertex<Integer>>> reachable = async.reachable(graph.v3);
+      CompletableFuture<Integer> max = async.max(graph.v7, Duration.ofSeconds(30));
+      CompletableFuture<Boolean> path = async.hasStrictlyIncreasingPath(graph.v3, graph.v91);
+      assertEquals(practice.reachable(graph.v3), reachable.get(30, TimeUnit.SECONDS), "reachable should match Practice");
+      assertEquals(practice.max(graph.v7), (int) max.get(30, TimeUnit.SECONDS), "max should match Practice");
+      assertEquals(practice.hasStrictlyIncreasingPath(graph.v3, graph.v91), path.get(30, TimeUnit.SECONDS),
+          "hasStrictlyIncreasingPath should match Practice");
+
+      ExecutionException failure = assertThrows(ExecutionException.class,
+          () -> async.hasStrictlyIncreasingPath(null, graph.v7).get(30, TimeUnit.SECONDS),
+          "A null start should fail the future");
+      assertTrue(failure.getCause() instanceof NullPointerException, "The failure should be the NullPointerException");
+      assertThrows(NullPointerException.class, () -> async.max(graph.v3, null), "A null deadline should be rejected");
+    }
+  }
+
+  @Test
+  public void testAsyncPracticeDeadline_StopsTraversal() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      AsyncPractice async = new AsyncPractice(new Practice(), executor);
+      CompletableFuture<Integer> endless = async.max(endlessChain(0, new CountDownLatch(1)), Duration.ofMillis(50));
+      ExecutionException failure = assertThrows(ExecutionException.class, () -> endless.get(30, TimeUnit.SECONDS),
+          "A query past its deadline should fail");
+      assertTrue(failure.getCause() instanceof TimeoutException, "The failure should be a TimeoutException");
+
+      // The single worker can only answer this if the endless traversal gave up.
+      GraphData graph = buildComplexGraph();
+      assertEquals(91, (int) async.max(graph.v3).get(30, TimeUnit.SECONDS), "The worker should be free after the deadline");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testAsyncPracticeCancel_StopsTraversal() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      AsyncPractice async = new AsyncPractice(new Practice(), executor);
+      CountDownLatch started = new CountDownLatch(1);
+      CompletableFuture<Set<Vertex<Integer>>> endless = async.reachable(endlessChain(0, started));
+      assertTrue(started.await(30, TimeUnit.SECONDS), "The traversal should start");
+      assertTrue(endless.cancel(true), "A running query should be cancellable");
+      assertTrue(endless.isCancelled(), "The future should report cancellation");
+
+      GraphData graph = buildComplexGraph();
+      assertTrue(async.hasStrictlyIncreasingPath(graph.v3, graph.v91).get(30, TimeUnit.SECONDS),
+          "The worker should be free after cancellation");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testTraversalOnInterruptedThread_ThrowsCancellation() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(10_000);
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(CancellationException.class, () -> practice.max(chain.get(0)),
+          "A long traversal on an interrupted thread should stop");
+      assertTrue(Thread.currentThread().isInterrupted(), "The interrupt flag should stay set");
+    } finally {
+      Thread.interrupted();
+    }
+    assertEquals(9_999, practice.max(chain.get(0)), "The traversal should complete once the interrupt is cleared");
+  }
+
+  @Test
+  public void testTraversalOfHubOnInterruptedThread_ThrowsCancellation() {
+    // Two vertices, but a million edges that all lead back to vertices already visited.
+    Vertex<Integer> hub = new Vertex<>(1);
+    Vertex<Integer> spoke = new Vertex<>(2);
+    for (int i = 0; i < 500_000; i++) {
+      hub.neighbors.add(spoke);
+      hub.neighbors.add(hub);
+    }
+    Practice practice = new Practice();
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(CancellationException.class, () -> practice.max(hub),
+          "Scanning a hub's edges on an interrupted thread should stop even when few vertices are reached");
+    } finally {
+      Thread.interrupted();
+    }
+    assertEquals(2, practice.max(hub), "The traversal should complete once the interrupt is cleared");
+  }
+
+  // ---------------------------
+  // Tests for off-heap graphs
+  // ---------------------------
+
+  private static BitSet toBitSet(IntStream ids) {
+    BitSet bits = new BitSet();
+    ids.forEach(bits::set);
+    return bits;
+  }
+
+  @Test
+  public void testOffHeapTraversalComplexGraph_MatchesPractice() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(graph.v3);
+    BinaryGraph offHeap = BinaryGraph.offHeap(graph.v3);
+    OffHeapTraversal traversal = new OffHeapTraversal(offHeap);
+    assertEquals(csr.vertexCount(), offHeap.vertexCount(), "The off-heap copy should keep every vertex");
+    assertEquals(csr.edgeCount(), offHeap.edgeCount(), "The off-heap copy should keep every edge");
+
+    for (int s = 0; s < csr.vertexCount(); s++) {
+      assertEquals(practice.reachable(csr, s), toBitSet(traversal.reachable(s)), "reachable differs from " + s);
+      assertEquals(practice.max(csr, s), traversal.max(s), "max differs from " + s);
+      assertEquals(practice.leaves(csr, s), toBitSet(traversal.leaves(s)), "leaves differs from " + s);
+      for (int e = 0; e < csr.vertexCount(); e++) {
+        assertEquals(practice.hasStrictlyIncreasingPath(csr, s, e), traversal.hasStrictlyIncreasingPath(s, e),
+            "hasStrictlyIncreasingPath differs from " + s + " to " + e);
+      }
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> traversal.max(csr.vertexCount()), "An invalid id should throw");
+    assertThrows(NullPointerException.class, () -> new OffHeapTraversal(null), "A null graph should be rejected");
+  }
+
+  @Test
+  public void testOffHeapTraversalRandomGraph_MatchesPractice() {
+    Practice practice = new Practice();
+    CsrGraph<Integer> csr = CsrGraph.ofInts(buildRandomGraph(20_000, 2, 71).get(0));
+    OffHeapTraversal traversal = new OffHeapTraversal(BinaryGraph.offHeap(csr));
+    Random random = new Random(73);
+    for (int q = 0; q < 100; q++) {
+      int s = random.nextInt(csr.vertexCount());
+      int e = random.nextInt(csr.vertexCount());
+      assertEquals(practice.reachable(csr, s).cardinality(), (int) traversal.reachable(s).count(), "reachable differs on query " + q);
+      assertEquals(practice.max(csr, s), traversal.max(s), "max differs on query " + q);
+      assertEquals(practice.hasStrictlyIncreasingPath(csr, s, e), traversal.hasStrictlyIncreasingPath(s, e),
+          "hasStrictlyIncreasingPath differs on query " + q);
+    }
+  }
+
+  @Test
+  public void testOffHeapTraversalStaleStream_Throws() {
+    GraphData graph = buildComplexGraph();
+    OffHeapTraversal traversal = new OffHeapTraversal(BinaryGraph.offHeap(graph.v3));
+    IntStream stale = traversal.reachable(0);
+    assertEquals(91, traversal.max(0), "max should run between the two streams");
+    assertThrows(ConcurrentModificationException.class, () -> stale.count(),
+        "A stream used after the next query should throw");
+
+    OffHeapBitSet bits = new OffHeapBitSet(130);
+    assertTrue(bits.set(129), "Setting a clear bit should report a change");
+    assertFalse(bits.set(129), "Setting a set bit should report no change");
+    assertTrue(bits.set(64), "Bits in every word should be settable");
+    assertEquals(2, bits.cardinality(), "cardinality should count the set bits");
+    bits.clear(129);
+    assertFalse(bits.get(129), "clear should clear the bit");
+    bits.clear();
+    assertEquals(0, bits.cardinality(), "clear() should clear every bit");
+    assertThrows(IndexOutOfBoundsException.class, () -> bits.get(130), "An index past the end should throw");
+
+    assertEquals(0, BinaryGraph.direct(0).capacity(), "An empty direct buffer should be allowed");
+    assertThrows(IllegalArgumentException.class, () -> BinaryGraph.direct(1 << 30),
+        "A direct buffer whose byte size overflows an int should be rejected, not silently allocated empty");
+    assertThrows(IllegalArgumentException.class, () -> BinaryGraph.direct(-1), "A negative size should be rejected");
+  }
+
+  // ---------------------------
+  // Tests for bounded traversals
+  // ---------------------------
+
+  @Test
+  public void testBoundedReachableChain_StopsAtDepthAndBudget() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(10);
+
+    BoundedResult<Set<Vertex<Integer>>> shallow = practice.reachable(chain.get(0), TraversalLimit.depth(3));
+    assertEquals(new HashSet<>(chain.subList(0, 4)), shallow.value(), "Depth 3 should reach the first four vertices");
+    assertTrue(shallow.truncated(), "Depth 3 should leave the rest of the chain out");
+
+    BoundedResult<Set<Vertex<Integer>>> exact = practice.reachable(chain.get(0), TraversalLimit.depth(9));
+    assertEquals(10, exact.value().size(), "Depth 9 should reach the whole chain");
+    assertFalse(exact.truncated(), "A limit that leaves nothing out should not truncate");
+    assertTrue(practice.reachable(chain.get(0), TraversalLimit.depth(8)).truncated(), "Depth 8 should miss the last vertex");
+
+    BoundedResult<Set<Vertex<Integer>>> budget = practice.reachable(chain.get(0), TraversalLimit.visits(5));
+    assertEquals(new HashSet<>(chain.subList(0, 5)), budget.value(), "A budget of 5 should visit the nearest five vertices");
+    assertTrue(budget.truncated(), "A budget of 5 should leave the rest out");
+    assertFalse(practice.reachable(chain.get(0), TraversalLimit.visits(10)).truncated(), "A budget of 10 should suffice");
+    assertEquals(2, practice.reachable(chain.get(0), TraversalLimit.of(1, 5)).value().size(), "The tighter limit should apply");
+  }
+
+  @Test
+  public void testBoundedQueriesComplexGraph_ReturnPartialResults() {
+    GraphData graph = buildComplexGraph();
+    for (Practice practice : new Practice[] {new Practice(), new Practice(VertexIndex.freeze(graph.v3))}) {
+      BoundedResult<Integer> max = practice.max(graph.v3, TraversalLimit.depth(1));
+      assertEquals(34, (int) max.value(), "Within one hop of v3 the maximum should be 34");
+      assertTrue(max.truncated(), "max within one hop should be truncated");
+      BoundedResult<Integer> unbounded = practice.max(graph.v3, TraversalLimit.NONE);
+      assertEquals(practice.max(graph.v3), (int) unbounded.value(), "No limit should match the unbounded max");
+      assertFalse(unbounded.truncated(), "No limit should never truncate");
+      assertEquals(practice.reachable(graph.v3), practice.reachable(graph.v3, TraversalLimit.NONE).value(),
+          "No limit should match the unbounded reachable");
+
+      BoundedResult<Boolean> near = practice.hasStrictlyIncreasingPath(graph.v3, graph.v91, TraversalLimit.depth(2));
+      assertTrue(near.value(), "3 -> 34 -> 91 should be found within two edges");
+      assertFalse(near.truncated(), "A found path should not be truncated");
+      BoundedResult<Boolean> far = practice.hasStrictlyIncreasingPath(graph.v3, graph.v91, TraversalLimit.depth(1));
+      assertFalse(far.value(), "No path of one edge should lead from v3 to v91");
+      assertTrue(far.truncated(), "A search cut short should say so");
+      BoundedResult<Boolean> none = practice.hasStrictlyIncreasingPath(graph.v91, graph.v3, TraversalLimit.visits(1_000));
+      assertFalse(none.value(), "There is no increasing path from v91 to v3");
+      assertFalse(none.truncated(), "An exhausted search should be definite");
+      assertTrue(practice.hasStrictlyIncreasingPath(graph.v7, graph.v7, TraversalLimit.visits(1)).value(),
+          "A vertex should reach itself within any limit");
+    }
+  }
+
+  @Test
+  public void testBoundedPrintAndArguments() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    PrintStream originalOut = System.out;
+    System.setOut(new PrintStream(baos));
+    BoundedResult<Integer> printed;
+    try {
+      printed = practice.printVertexVals(graph.v3, TraversalLimit.visits(4));
+    } finally {
+      System.out.flush();
+      System.setOut(originalOut);
+    }
+    assertEquals(4, (int) printed.value(), "A budget of 4 should print four values");
+    assertTrue(printed.truncated(), "Printing four of nine vertices should be truncated");
+    assertEquals(4, baos.toString().trim().split("\\R").length, "Four lines should have been printed");
+
+    assertEquals(Integer.MIN_VALUE, (int) practice.max(null, TraversalLimit.depth(1)).value(), "max(null) should be Integer.MIN_VALUE");
+    assertTrue(practice.reachable((Vertex<Integer>) null, TraversalLimit.depth(1)).value().isEmpty(), "reachable(null) should be empty");
+    assertThrows(NullPointerException.class, () -> practice.reachable(graph.v3, (TraversalLimit) null), "A null limit should be rejected");
+    assertThrows(NullPointerException.class, () -> practice.hasStrictlyIncreasingPath(graph.v3, graph.v7, (TraversalLimit) null),
+        "A null limit should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> TraversalLimit.depth(-1), "A negative depth should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> TraversalLimit.visits(0), "A zero budget should be rejected");
+  }
+
+  // ---------------------------
+  // Tests for graph reordering
+  // ---------------------------
+
+  @Test
+  public void testReorderedGraphComplexGraph_PreservesAnswers() {
+    Practice practice = new Practice();
+    GraphData graph = buildComplexGraph();
+    VertexIndex<Integer> index = VertexIndex.freeze(graph.v3);
+    CsrGraph<Integer> original = CsrGraph.of(index);
+    for (ReorderedGraph.Ordering ordering : ReorderedGraph.Ordering.values()) {
+      ReorderedGraph<Integer> reordered = ReorderedGraph.of(index, ordering);
+      CsrGraph<Integer> renumbered = reordered.graph();
+      assertEquals(original.vertexCount(), renumbered.vertexCount(), ordering + " should keep every vertex");
+      assertEquals(original.edgeCount(), renumbered.edgeCount(), ordering + " should keep every edge");
+
+      BitSet seen = new BitSet();
+      for (int id = 0; id < original.vertexCount(); id++) {
+        assertEquals(id, reordered.originalId(reordered.newId(id)), ordering + " should be a permutation");
+        seen.set(reordered.newId(id));
+        assertSame(index.vertex(id), reordered.vertex(reordered.newId(id)), ordering + " should map back to the vertex");
+        assertEquals(original.value(id), renumbered.value(reordered.newId(id)), ordering + " should move values along");
+
+        BitSet expected = practice.reachable(original, id);
+        BitSet actual = new BitSet();
+        practice.reachable(renumbered, reordered.newId(id)).stream().forEach(v -> actual.set(reordered.originalId(v)));
+        assertEquals(expected, actual, ordering + " should keep the reachable set of " + id);
+        assertEquals(practice.max(original, id), practice.max(renumbered, reordered.newId(id)),
+            ordering + " should keep the max of " + id);
+        for (int end = 0; end < original.vertexCount(); end++) {
+          assertEquals(practice.hasStrictlyIncreasingPath(original, id, end),
+              practice.hasStrictlyIncreasingPath(renumbered, reordered.newId(id), reordered.newId(end)),
+              ordering + " should keep the path from " + id + " to " + end);
+        }
+      }
+      assertEquals(original.vertexCount(), seen.cardinality(), ordering + " should use every new id once");
+    }
+    assertThrows(IllegalStateException.class,
+        () -> ReorderedGraph.of(original, ReorderedGraph.Ordering.BFS).vertex(0), "A graph without an index has no vertices to return");
+    assertThrows(NullPointerException.class, () -> ReorderedGraph.of(original, null), "A null ordering should be rejected");
+  }
+
+  @Test
+  public void testReorderedGraphOrderings_HaveTheirShape() {
+    // A chain numbered at random: reverse Cuthill-McKee should restore bandwidth 1.
+    List<Vertex<Integer>> chain = buildChain(200);
+    List<Integer> shuffled = new ArrayList<>();
+    for (int i = 0; i < chain.size(); i++) {
+      shuffled.add(i);
+    }
+    Collections.shuffle(shuffled, new Random(79));
+    int[] randomIds = shuffled.stream().mapToInt(Integer::intValue).toArray();
+    CsrGraph<Integer> scattered = CsrGraph.ofInts(chain.get(0)).permute(randomIds);
+
+    ReorderedGraph<Integer> rcm = ReorderedGraph.of(scattered, ReorderedGraph.Ordering.REVERSE_CUTHILL_MCKEE);
+    CsrGraph<Integer> banded = rcm.graph();
+    for (int v = 0; v < banded.vertexCount(); v++) {
+      for (int i = 0; i < banded.degree(v); i++) {
+        assertEquals(1, Math.abs(banded.neighbor(v, i) - v), "Every chain edge should join consecutive ids after RCM");
+      }
+    }
+
+    ReorderedGraph<Integer> bfs = ReorderedGraph.of(scattered, ReorderedGraph.Ordering.BFS);
+    assertEquals(0, bfs.newId(0), "BFS should number the original vertex 0 first");
+
+    GraphData graph = buildComplexGraph();
+    CsrGraph<Integer> complex = CsrGraph.ofInts(graph.v3);
+    CsrGraph<Integer> hubsFirst = ReorderedGraph.of(complex, ReorderedGraph.Ordering.DEGREE_SORTED).graph();
+    assertEquals(7, (int) hubsFirst.value(0), "v7, with degree 6, should be numbered first");
+  }
+
+  // ---------------------------
+  // Scale tests against a reference implementation
+  // ---------------------------
+
+  // Vertex counts of the size tiers; R-MAT graphs round each up to a power of two. Only the small
+  // tier runs by default; the others are tagged "scale" and run with `gradle scaleTest`.
+  private static final int SMALL_TIER = 1_000;
+  private static final int MEDIUM_TIER = 100_000;
+  private static final int LARGE_TIER = 1_000_000;
+
+  @Test
+  public void testGraphGenerator_FamiliesHaveTheirShape() {
+    List<Vertex<Integer>> rmat = GraphGenerator.rmat(10, 4, 5);
+    assertEquals(1024, rmat.size(), "An R-MAT graph of scale 10 should have 1024 vertices");
+    assertEquals(4096, rmat.stream().mapToInt(v -> v.neighbors.size()).sum(), "R-MAT should add edgeFactor edges per vertex");
+    assertTrue(rmat.get(0).neighbors.size() > rmat.get(1023).neighbors.size(), "Low R-MAT ids should be the hubs");
+
+    List<Vertex<Integer>> dag = GraphGenerator.deepDag(1_000, 3, 5);
+    for (Vertex<Integer> vertex : dag) {
+      for (Vertex<Integer> neighbor : vertex.neighbors) {
+        assertTrue(neighbor.data > vertex.data, "Every deep DAG edge should point forward");
+      }
+    }
+    assertEquals(dag.get(1), dag.get(0).neighbors.get(0), "A deep DAG should have a chain as its spine");
+
+    List<Vertex<Integer>> sccs = GraphGenerator.manySccs(1_000, 10, 5);
+    assertEquals(1_000, referenceReachable(referenceAdjacency(sccs), 0).cardinality(), "The root should reach every component");
+    BitSet fromMiddle = referenceReachable(referenceAdjacency(sccs), 505);
+    assertEquals(500, fromMiddle.nextSetBit(0), "Nothing before the component of 505 should be reachable from it");
+    assertEquals(500, fromMiddle.cardinality(), "Every later component should be reachable from 505");
+
+    List<Vertex<Integer>> again = GraphGenerator.manySccs(1_000, 10, 5);
+    for (int i = 0; i < sccs.size(); i++) {
+      assertEquals(sccs.get(i).neighbors.stream().map(v -> v.data).collect(Collectors.toList()),
+          again.get(i).neighbors.stream().map(v -> v.data).collect(Collectors.toList()), "The same seed should build the same graph");
+    }
+    assertThrows(IllegalArgumentException.class, () -> GraphGenerator.rmat(31, 4, 5), "Scale above 30 should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> GraphGenerator.manySccs(10, 0, 5), "Empty components should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> GraphGenerator.powerLaw(1 << 28, 8, 5),
+        "A power-law graph whose endpoint count overflows an int should be rejected before anything is built");
+  }
+
+  @Test
+  public void testScale_SmallTier() {
+    checkScaleTier("small", SMALL_TIER);
+  }
+
+  @Test
+  @Tag("scale")
+  public void testScale_MediumTier() {
+    checkScaleTier("medium", MEDIUM_TIER);
+  }
+
+  @Test
+  @Tag("scale")
+  public void testScale_LargeTier() {
+    checkScaleTier("large", LARGE_TIER);
+  }
+
+  /**
+   * Builds one graph of every generator family with about size vertices, checks every Practice
+   * method on it against the reference implementation below, and prints the build time, the heap
+   * the graph occupies and timings. Only reachable is timed on both sides, over the same starts;
+   * the time of every other Practice query is printed as one separate total.
+   */
+  private static void checkScaleTier(String tier, int size) {
+    Map<String, Supplier<List<Vertex<Integer>>>> families = new LinkedHashMap<>();
+    families.put("chain", () -> GraphGenerator.chain(size));
+    families.put("erdosRenyi", () -> GraphGenerator.randomSparse(size, 4, 101));
+    families.put("powerLaw", () -> GraphGenerator.powerLaw(size, 4, 102));
+    families.put("rmat", () -> GraphGenerator.rmat(32 - Integer.numberOfLeadingZeros(size - 1), 4, 103));
+    families.put("deepDag", () -> GraphGenerator.deepDag(size, 2, 104));
+    families.put("manySccs", () -> GraphGenerator.manySccs(size, 10, 105));
+    for (Map.Entry<String, Supplier<List<Vertex<Integer>>>> family : families.entrySet()) {
+      checkScaleFamily(tier, family.getKey(), family.getValue());
+    }
+  }
+
+  private static void checkScaleFamily(String tier, String family, Supplier<List<Vertex<Integer>>> generator) {
+    long heapBefore = usedHeap();
+    long begin = System.nanoTime();
+    List<Vertex<Integer>> vertices = generator.get();
+    long buildNanos = System.nanoTime() - begin;
+    long graphBytes = usedHeap() - heapBefore;
+
+    int n = vertices.size();
+    String label = tier + " " + family;
+    int[][] adjacency = referenceAdjacency(vertices);
+    Practice practice = new Practice();
+    Random random = new Random(n);
+    long practiceReachableNanos = 0;
+    long referenceReachableNanos = 0;
+    long otherQueriesNanos = 0;
+
+    int[] starts = {0, n - 1, random.nextInt(n), random.nextInt(n), random.nextInt(n)};
+    for (int start : starts) {
+      Vertex<Integer> vertex = vertices.get(start);
+      begin = System.nanoTime();
+      BitSet expected = referenceReachable(adjacency, start);
+      referenceReachableNanos += System.nanoTime() - begin;
+      BitSet expectedLeaves = new BitSet();
+      expected.stream().filter(v -> adjacency[v].length == 0).forEach(expectedLeaves::set);
+      BitSet increasing = referenceIncreasing(adjacency, start);
+
+      begin = System.nanoTime();
+      Set<Vertex<Integer>> reached = practice.reachable(vertex);
+      practiceReachableNanos += System.nanoTime() - begin;
+      BitSet reachable = toBitSet(reached.stream().mapToInt(v -> v.data));
+
+      begin = System.nanoTime();
+      int max = practice.max(vertex);
+      Set<Vertex<Integer>> leafSet = practice.leaves(vertex);
+      otherQueriesNanos += System.nanoTime() - begin;
+      BitSet leaves = toBitSet(leafSet.stream().mapToInt(v -> v.data));
+      assertEquals(expected, reachable, label + ": reachable from " + start);
+      assertEquals(expected.length() - 1, max, label + ": max from " + start);
+      assertEquals(expectedLeaves, leaves, label + ": leaves from " + start);
+
+      int[] ends = {start, n - 1, random.nextInt(n), increasing.previousSetBit(n - 1), increasing.nextSetBit(start + 1)};
+      for (int end : ends) {
+        if (end < 0) continue;
+        begin = System.nanoTime();
+        boolean found = practice.hasStrictlyIncreasingPath(vertex, vertices.get(end));
+        otherQueriesNanos += System.nanoTime() - begin;
+        assertEquals(increasing.get(end), found, label + ": increasing path from " + start + " to " + end);
+      }
+    }
+
+    ByteArrayOutputStream printed = new ByteArrayOutputStream();
+    PrintStream originalOut = System.out;
+    System.setOut(new PrintStream(printed));
+    try {
+      begin = System.nanoTime();
+      practice.printVertexVals(vertices.get(0));
+      otherQueriesNanos += System.nanoTime() - begin;
+    } finally {
+      System.out.flush();
+      System.setOut(originalOut);
+    }
+    String[] lines = printed.toString().split(System.lineSeparator());
+    assertEquals(toBitSet(Arrays.stream(lines).mapToInt(Integer::parseInt)), referenceReachable(adjacency, 0),
+        label + ": printVertexVals should print every reachable value");
+    assertEquals(referenceReachable(adjacency, 0).cardinality(), lines.length, label + ": printVertexVals should print each value once");
+
+    System.out.printf("scale %-6s %-10s %,9d vertices %,10d edges: built in %,6d ms, heap %+,7.1f MB; "
+        + "reachable from %d starts: practice %,6d ms, reference %,6d ms; other Practice queries %,6d ms%n",
+        tier, family, n, Arrays.stream(adjacency).mapToLong(edges -> edges.length).sum(), buildNanos / 1_000_000,
+        graphBytes / 1e6, starts.length, practiceReachableNanos / 1_000_000, referenceReachableNanos / 1_000_000,
+        otherQueriesNanos / 1_000_000);
+  }
+
+  // The reference implementation: plain breadth-first searches over int arrays, sharing no code with Practice.
+
+  private static int[][] referenceAdjacency(List<Vertex<Integer>> vertices) {
+    int[][] adjacency = new int[vertices.size()][];
+    for (Vertex<Integer> vertex : vertices) {
+      adjacency[vertex.data] = vertex.neighbors.stream().mapToInt(neighbor -> neighbor.data).toArray();
+    }
+    return adjacency;
+  }
+
+  private static BitSet referenceReachable(int[][] adjacency, int start) {
+    return referenceSearch(adjacency, start, false);
+  }
+
+  // Every vertex reachable from start by a strictly increasing path, start included.
+  private static BitSet referenceIncreasing(int[][] adjacency, int start) {
+    return referenceSearch(adjacency, start, true);
+  }
+
+  private static BitSet referenceSearch(int[][] adjacency, int start, boolean increasing) {
+    BitSet reached = new BitSet(adjacency.length);
+    int[] queue = new int[adjacency.length];
+    int tail = 0;
+    reached.set(start);
+    queue[tail++] = start;
+    for (int head = 0; head < tail; head++) {
+      int current = queue[head];
+      for (int neighbor : adjacency[current]) {
+        if (reached.get(neighbor) || (increasing && neighbor <= current)) continue;
+        reached.set(neighbor);
+        queue[tail++] = neighbor;
+      }
+    }
+    return reached;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    long used = Long.MAX_VALUE;
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      long now = runtime.totalMemory() - runtime.freeMemory();
+      if (now >= used) break;
+      used = now;
+    }
+    return used;
+  }
+
+  // ---------------------------
+  // Additional tests: Deep graphs
+  // ---------------------------
+
+  private static final int DEEP_CHAIN_LENGTH = 300_000;
+
+  @Test
+  public void testDeepChain_PrintVertexValsDoesNotOverflow() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(DEEP_CHAIN_LENGTH);
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    PrintStream originalOut = System.out;
+    System.setOut(new PrintStream(baos));
+    try {
+      practice.printVertexVals(chain.get(0));
+    } finally {
+      System.out.flush();
+      System.setOut(originalOut);
+    }
+    String[] lines = baos.toString().split(System.lineSeparator());
+    assertEquals(DEEP_CHAIN_LENGTH, lines.length, "printVertexVals should print every vertex of a deep chain");
+  }
+
+  @Test
+  public void testDeepChain_ReachableDoesNotOverflow() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(DEEP_CHAIN_LENGTH);
+    assertEquals(DEEP_CHAIN_LENGTH, practice.reachable(chain.get(0)).size(),
+        "reachable should return every vertex of a deep chain");
+  }
+
+  @Test
+  public void testDeepChain_MaxDoesNotOverflow() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(DEEP_CHAIN_LENGTH);
+    assertEquals(DEEP_CHAIN_LENGTH - 1, practice.max(chain.get(0)),
+        "max of a deep chain should be its last value");
+  }
+
+  @Test
+  public void testDeepChain_LeavesDoesNotOverflow() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(DEEP_CHAIN_LENGTH);
+    Set<Vertex<Integer>> leaves = practice.leaves(chain.get(0));
+    assertEquals(1, leaves.size(), "A deep chain should have exactly one leaf");
+    assertSame(chain.get(DEEP_CHAIN_LENGTH - 1), leaves.iterator().next(), "The leaf of a chain is its last vertex");
+  }
+
+  @Test
+  public void testDeepChain_StrictlyIncreasingPathDoesNotOverflow() {
+    Practice practice = new Practice();
+    List<Vertex<Integer>> chain = buildChain(DEEP_CHAIN_LENGTH);
+    assertTrue(practice.hasStrictlyIncreasingPath(chain.get(0), chain.get(DEEP_CHAIN_LENGTH - 1)),
+        "A chain of increasing values is a strictly increasing path");
+  }
+
   // ====================================================
   // TeeOutputStream inner class for capturing output
   // ====================================================
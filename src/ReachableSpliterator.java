@@ -0,0 +1,104 @@
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A lazy, splittable depth-first traversal that yields every vertex reachable from a start vertex.
+ *
+ * Each call to tryAdvance expands at most one vertex, so a consumer that stops early (a limit, an
+ * anyMatch, a findFirst) only pays for the vertices it actually consumed. At any time the traversal
+ * holds the vertices yielded so far plus its frontier, never the whole component.
+ *
+ * Splitting hands the older half of the frontier to a new spliterator. A traversal starts with only
+ * its start vertex on the frontier, so trySplit first expands up to MAX_SPLIT_EXPANSION vertices,
+ * keeping them to yield later, until the frontier holds at least two vertices to share. The first
+ * split replaces the visited set, until then a plain HashSet used by a single thread, with a
+ * concurrent copy that is passed to the new spliterator when it is created and never replaced
+ * again. The field holding it is volatile, so the copy is safely published to whichever thread
+ * runs either half. Each vertex is yielded exactly once across all splits.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class ReachableSpliterator<T> implements Spliterator<Vertex<T>> {
+  /** The most vertices one trySplit expands while looking for work to hand off. */
+  static final int MAX_SPLIT_EXPANSION = 1024;
+
+  private final Frontier<Vertex<T>> stack;
+  /** Vertices whose neighbors are already on the stack, waiting to be yielded. */
+  private final Frontier<Vertex<T>> expanded = new Frontier<>();
+  private volatile Set<Vertex<T>> visited;
+  private boolean concurrent;
+
+  /**
+   * Creates a spliterator over every vertex reachable from the given start vertex.
+   *
+   * @param start The starting vertex. If null, the spliterator is empty.
+   */
+  public ReachableSpliterator(Vertex<T> start) {
+    this(new Frontier<>(), new HashSet<>(), false);
+    if(start != null){
+      visited.add(start);
+      stack.push(start);
+    }
+  }
+
+  private ReachableSpliterator(Frontier<Vertex<T>> stack, Set<Vertex<T>> visited, boolean concurrent) {
+    this.stack = stack;
+    this.visited = visited;
+    this.concurrent = concurrent;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Vertex<T>> action) {
+    if(!expanded.isEmpty()){
+      action.accept(expanded.pop());
+      return true;
+    }
+    if(stack.isEmpty()) return false;
+
+    Vertex<T> current = stack.pop();
+    expand(current);
+    action.accept(current);
+    return true;
+  }
+
+  @Override
+  public Spliterator<Vertex<T>> trySplit() {
+    for(int i = 0; i < MAX_SPLIT_EXPANSION && stack.size() == 1; i++){
+      Vertex<T> current = stack.pop();
+      expand(current);
+      expanded.push(current);
+    }
+    if(stack.size() < 2) return null;
+
+    if(!concurrent){
+      Set<Vertex<T>> shared = ConcurrentHashMap.newKeySet(visited.size() * 2);
+      shared.addAll(visited);
+      visited = shared;
+      concurrent = true;
+    }
+    return new ReachableSpliterator<>(stack.split(), visited, true);
+  }
+
+  @Override
+  public long estimateSize() {
+    return stack.isEmpty() && expanded.isEmpty() ? 0 : Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return DISTINCT | NONNULL;
+  }
+
+  private void expand(Vertex<T> vertex) {
+    List<Vertex<T>> neighbors = vertex.neighbors;
+    if(neighbors == null) return;
+    Set<Vertex<T>> visited = this.visited;
+    for(Vertex<T> neighbor : neighbors){
+      if(neighbor != null && visited.add(neighbor)) stack.push(neighbor);
+    }
+  }
+}
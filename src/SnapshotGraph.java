@@ -0,0 +1,206 @@
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A graph that one or more writers edit while any number of readers query consistent, immutable
+ * versions of it without locking.
+ *
+ * Edits are made against a working copy and become visible together when publish() is called,
+ * which stores a new GraphSnapshot in a volatile field. Readers call snapshot() and traverse what
+ * they get; a reader never sees a half-applied batch of edits and is never blocked by a writer.
+ *
+ * The working copy is copy-on-write. Neighbor rows are immutable int arrays, so an edge edit
+ * replaces just the row of its source vertex. The outer row array and the value array are copied
+ * at most once per publish, on the first edit after it, so a publish costs O(vertices) no matter
+ * how many edits it carries and the rows no edit touched stay shared between versions.
+ *
+ * Edits and publish are synchronized with each other; snapshot() is a single volatile read.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class SnapshotGraph<T> {
+  private static final int[] NO_NEIGHBORS = new int[0];
+
+  private int[][] adjacency;
+  private Object[] values;
+  private int vertexCount;
+  /** True while the working arrays are still the ones the current snapshot holds. */
+  private boolean shared;
+  private volatile GraphSnapshot<T> current;
+
+  private SnapshotGraph(int[][] adjacency, Object[] values, int vertexCount) {
+    this.adjacency = adjacency;
+    this.values = values;
+    this.vertexCount = vertexCount;
+    this.current = new GraphSnapshot<>(0, vertexCount, adjacency, values);
+    this.shared = true;
+  }
+
+  /**
+   * Creates an empty graph whose first snapshot has no vertices.
+   *
+   * @return The graph.
+   */
+  public static <T> SnapshotGraph<T> empty() {
+    return new SnapshotGraph<>(new int[0][], new Object[0], 0);
+  }
+
+  /**
+   * Creates a graph holding every vertex reachable from the given root, with the same ids
+   * CsrGraph.of(root) would assign, so the root has id 0. The first snapshot is published already.
+   *
+   * @param root The vertex to copy from.
+   * @return The graph.
+   * @throws NullPointerException if root is null.
+   */
+  public static <T> SnapshotGraph<T> of(Vertex<T> root) {
+    return of(CsrGraph.of(root));
+  }
+
+  /**
+   * Creates a graph holding every vertex of a frozen graph, with the ids assigned by the index.
+   * The first snapshot is published already.
+   *
+   * @param index The frozen graph.
+   * @return The graph.
+   * @throws NullPointerException if index is null.
+   */
+  public static <T> SnapshotGraph<T> of(VertexIndex<T> index) {
+    return of(CsrGraph.of(index));
+  }
+
+  private static <T> SnapshotGraph<T> of(CsrGraph<T> graph) {
+    int n = graph.vertexCount();
+    int[] offsets = graph.offsets();
+    int[] targets = graph.targets();
+    int[][] adjacency = new int[n][];
+    Object[] values = new Object[n];
+    for(int v = 0; v < n; v++){
+      adjacency[v] = offsets[v] == offsets[v + 1] ? NO_NEIGHBORS : Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]);
+      values[v] = graph.value(v);
+    }
+    return new SnapshotGraph<>(adjacency, values, n);
+  }
+
+  /**
+   * Returns the most recently published version. Never blocks.
+   *
+   * @return The current snapshot.
+   */
+  public GraphSnapshot<T> snapshot() {
+    return current;
+  }
+
+  /**
+   * Adds a vertex with no edges to the working copy.
+   *
+   * @param value The value of the new vertex.
+   * @return The id of the new vertex.
+   */
+  public synchronized int addVertex(T value) {
+    unshare(vertexCount + 1);
+    adjacency[vertexCount] = NO_NEIGHBORS;
+    values[vertexCount] = value;
+    return vertexCount++;
+  }
+
+  /**
+   * Adds an edge to the working copy.
+   *
+   * @param from The id of the source vertex.
+   * @param to The id of the target vertex.
+   * @throws IndexOutOfBoundsException if either id is not a vertex of the working copy.
+   */
+  public synchronized void addEdge(int from, int to) {
+    checkVertex(from);
+    checkVertex(to);
+    unshare(vertexCount);
+    int[] row = adjacency[from];
+    int[] copy = Arrays.copyOf(row, row.length + 1);
+    copy[row.length] = to;
+    adjacency[from] = copy;
+  }
+
+  /**
+   * Removes one edge from the working copy, if present.
+   *
+   * @param from The id of the source vertex.
+   * @param to The id of the target vertex.
+   * @return True if an edge was removed.
+   * @throws IndexOutOfBoundsException if either id is not a vertex of the working copy.
+   */
+  public synchronized boolean removeEdge(int from, int to) {
+    checkVertex(from);
+    checkVertex(to);
+    int[] row = adjacency[from];
+    for(int i = 0; i < row.length; i++){
+      if(row[i] != to) continue;
+      unshare(vertexCount);
+      int[] copy = new int[row.length - 1];
+      System.arraycopy(row, 0, copy, 0, i);
+      System.arraycopy(row, i + 1, copy, i, row.length - i - 1);
+      adjacency[from] = copy.length == 0 ? NO_NEIGHBORS : copy;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Replaces the value of a vertex in the working copy.
+   *
+   * @param vertex The id of the vertex.
+   * @param value The new value.
+   * @throws IndexOutOfBoundsException if vertex is not a vertex of the working copy.
+   */
+  public synchronized void setValue(int vertex, T value) {
+    checkVertex(vertex);
+    unshare(vertexCount);
+    values[vertex] = value;
+  }
+
+  /**
+   * Makes every edit since the last publish visible to readers at once.
+   *
+   * @return The newly published snapshot, or the current one if nothing was edited.
+   */
+  public synchronized GraphSnapshot<T> publish() {
+    if(shared) return current;
+    GraphSnapshot<T> next = new GraphSnapshot<>(current.version() + 1, vertexCount, adjacency, values);
+    shared = true;
+    current = next;
+    return next;
+  }
+
+  /**
+   * Applies a batch of edits and publishes them as one version.
+   *
+   * @param edits Called with this graph while its lock is held.
+   * @return The newly published snapshot.
+   * @throws NullPointerException if edits is null.
+   */
+  public synchronized GraphSnapshot<T> update(Consumer<? super SnapshotGraph<T>> edits) {
+    if(edits == null){
+      throw new NullPointerException("Edits cannot be null.");
+    }
+    edits.accept(this);
+    return publish();
+  }
+
+  /**
+   * Copies the working arrays before the first edit after a publish, so the published snapshot
+   * keeps its own, growing them to hold at least the given number of vertices.
+   */
+  private void unshare(int capacity) {
+    if(!shared && capacity <= adjacency.length) return;
+    int length = capacity <= adjacency.length ? adjacency.length : Math.max(capacity, adjacency.length * 2);
+    adjacency = Arrays.copyOf(adjacency, length);
+    values = Arrays.copyOf(values, length);
+    shared = false;
+  }
+
+  private void checkVertex(int vertex) {
+    if(vertex < 0 || vertex >= vertexCount){
+      throw new IndexOutOfBoundsException("Vertex id " + vertex + " out of range for graph of " + vertexCount + " vertices");
+    }
+  }
+}
@@ -0,0 +1,221 @@
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * An explicit-stack depth-first traversal over Vertex graphs, with a level-synchronous
+ * breadth-first mode.
+ *
+ * Every method in Practice delegates to this engine instead of recursing once per vertex,
+ * so the depth of a graph is limited only by heap rather than by the thread stack size.
+ * The engine keeps its frontiers between runs, which lets a caller reuse one engine for many
+ * traversals without reallocating the work list. Because of that an engine is not thread-safe.
+ *
+ * An engine created with TraversalMetrics records the cost of every run. Without metrics it only
+ * keeps a few counters in locals and never reads the clock.
+ *
+ * Traversals are cancelled cooperatively: every CANCELLATION_CHECK_INTERVAL neighbor entries
+ * scanned the engine checks whether the running thread has been interrupted, and if so stops with
+ * a CancellationException, leaving the interrupt flag set. Every vertex but the start is reached
+ * through a scanned entry, so the check also runs while a hub's edges lead only to vertices
+ * already visited. Small traversals never check at all.
+ */
+public class TraversalEngine {
+  /** The number of neighbor entries scanned between two checks of the interrupt flag; a power of two. */
+  static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+  /**
+   * Callback used by the engine to report vertices and to decide which edges to follow.
+   *
+   * @param <T> The type of data held by the vertices.
+   */
+  public interface Visitor<T> {
+    /**
+     * Called exactly once for every vertex the traversal reaches, including the start vertex.
+     *
+     * @param vertex The newly reached vertex.
+     * @return True to continue the traversal, false to stop it immediately.
+     */
+    boolean visit(Vertex<T> vertex);
+
+    /**
+     * Decides whether the traversal may move along the edge from one vertex to another.
+     * By default every edge is followed.
+     *
+     * @param from The vertex whose neighbors are being expanded.
+     * @param to The neighbor at the other end of the edge.
+     * @return True if the edge should be followed.
+     */
+    default boolean follow(Vertex<T> from, Vertex<T> to) {
+      return true;
+    }
+  }
+
+  /**
+   * How a traversal ended.
+   */
+  public enum Outcome {
+    /** Every vertex reachable under the visitor's follow rule was visited. */
+    COMPLETED,
+    /** The visitor returned false. */
+    STOPPED,
+    /** A depth or visit limit kept at least one more reachable vertex from being visited. */
+    TRUNCATED
+  }
+
+  private final Frontier<Vertex<?>> stack = new Frontier<>();
+  private final Frontier<Vertex<?>> nextLevel = new Frontier<>();
+  private final TraversalMetrics metrics;
+  private long verticesVisited;
+  private long edgesScanned;
+  private long revisitsSkipped;
+  private int maxFrontier;
+
+  /**
+   * Creates an engine that records nothing.
+   */
+  public TraversalEngine() {
+    this.metrics = null;
+  }
+
+  /**
+   * Creates an engine that records the cost of every traversal it runs.
+   *
+   * @param metrics Where to record each traversal.
+   * @throws NullPointerException if metrics is null.
+   */
+  public TraversalEngine(TraversalMetrics metrics) {
+    if(metrics == null){
+      throw new NullPointerException("Metrics cannot be null.");
+    }
+    this.metrics = metrics;
+  }
+
+  /**
+   * Visits every vertex reachable from the start vertex that has not already been marked in
+   * the visited set. A vertex is marked in the visited set, and passed to the visitor, the first
+   * time it is reached, so each vertex is reported at most once even on cyclic graphs.
+   *
+   * Null neighbor lists and null entries within neighbor lists are skipped.
+   *
+   * @param start The vertex to start from. If null, nothing is visited.
+   * @param visited The set of vertices already reached; updated as the traversal proceeds.
+   * @param visitor The callback that receives each reached vertex.
+   * @return True if the traversal ran to completion, false if the visitor stopped it early.
+   * @throws CancellationException if the running thread is interrupted during a long traversal.
+   */
+  public <T> boolean traverse(Vertex<T> start, VisitedSet<T> visited, Visitor<T> visitor) {
+    return run(start, visited, visitor, false);
+  }
+
+  /**
+   * Same as traverse, but explores the graph level by level: every vertex at distance d from the
+   * start vertex is visited before any vertex at distance d + 1.
+   *
+   * @param start The vertex to start from. If null, nothing is visited.
+   * @param visited The set of vertices already reached; updated as the traversal proceeds.
+   * @param visitor The callback that receives each reached vertex.
+   * @return True if the traversal ran to completion, false if the visitor stopped it early.
+   * @throws CancellationException if the running thread is interrupted during a long traversal.
+   */
+  public <T> boolean traverseBreadthFirst(Vertex<T> start, VisitedSet<T> visited, Visitor<T> visitor) {
+    return run(start, visited, visitor, true);
+  }
+
+  /**
+   * Same as traverseBreadthFirst, but visits only vertices within maxDepth followed edges of the
+   * start vertex, and at most maxVisits vertices in all, the start vertex included. Because levels
+   * are visited in order, a truncated traversal has visited every vertex closer to the start than
+   * the ones it left out.
+   *
+   * @param start The vertex to start from. If null, nothing is visited.
+   * @param visited The set of vertices already reached; updated as the traversal proceeds.
+   * @param visitor The callback that receives each reached vertex.
+   * @param maxDepth The largest number of edges between the start and a visited vertex.
+   * @param maxVisits The largest number of vertices to visit.
+   * @return How the traversal ended.
+   * @throws IllegalArgumentException if maxDepth is negative or maxVisits is not positive.
+   * @throws CancellationException if the running thread is interrupted during a long traversal.
+   */
+  public <T> Outcome traverseWithin(Vertex<T> start, VisitedSet<T> visited, Visitor<T> visitor, int maxDepth,
+                                    int maxVisits) {
+    if(maxDepth < 0 || maxVisits <= 0){
+      throw new IllegalArgumentException("Invalid limits: depth " + maxDepth + ", visits " + maxVisits);
+    }
+    return run(start, visited, visitor, true, maxDepth, maxVisits);
+  }
+
+  private <T> boolean run(Vertex<T> start, VisitedSet<T> visited, Visitor<T> visitor, boolean breadthFirst) {
+    return run(start, visited, visitor, breadthFirst, Integer.MAX_VALUE, Integer.MAX_VALUE) != Outcome.STOPPED;
+  }
+
+  private <T> Outcome run(Vertex<T> start, VisitedSet<T> visited, Visitor<T> visitor, boolean breadthFirst,
+                          int maxDepth, int maxVisits) {
+    if(metrics == null || start == null) return expand(start, visited, visitor, breadthFirst, maxDepth, maxVisits);
+
+    long allocated = metrics.begin();
+    long begin = System.nanoTime();
+    try {
+      return expand(start, visited, visitor, breadthFirst, maxDepth, maxVisits);
+    } finally {
+      metrics.record(start, verticesVisited, edgesScanned, revisitsSkipped, maxFrontier,
+          System.nanoTime() - begin, allocated);
+    }
+  }
+
+  private <T> Outcome expand(Vertex<T> start, VisitedSet<T> visited, Visitor<T> visitor, boolean breadthFirst,
+                             int maxDepth, int maxVisits) {
+    long vertices = 0;
+    long edges = 0;
+    long revisits = 0;
+    int frontier = 0;
+    int depth = 0; // of the vertices in current; only advances breadth-first
+    Frontier<Vertex<?>> current = stack;
+    Frontier<Vertex<?>> next = breadthFirst ? nextLevel : stack;
+    current.clear();
+    next.clear();
+    try {
+      if(start == null || !visited.add(start)) return Outcome.COMPLETED;
+      vertices++;
+      if(!visitor.visit(start)) return Outcome.STOPPED;
+      current.push(start);
+      frontier = 1;
+      while(!current.isEmpty()){
+        @SuppressWarnings("unchecked")
+        Vertex<T> vertex = (Vertex<T>) current.pop();
+        List<Vertex<T>> neighbors = vertex.neighbors;
+        if(neighbors != null){
+          for(Vertex<T> neighbor : neighbors){
+            if((++edges & (CANCELLATION_CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted()){
+              throw new CancellationException("Traversal interrupted after " + vertices + " vertices and " + edges
+                  + " edges.");
+            }
+            if(neighbor == null || !visitor.follow(vertex, neighbor)) continue;
+            if(!visited.add(neighbor)){
+              revisits++;
+              continue;
+            }
+            if(depth == maxDepth || vertices == maxVisits) return Outcome.TRUNCATED;
+            vertices++;
+            if(!visitor.visit(neighbor)) return Outcome.STOPPED;
+            next.push(neighbor);
+          }
+        }
+        frontier = Math.max(frontier, current == next ? current.size() : current.size() + next.size());
+        if(breadthFirst && current.isEmpty()){
+          Frontier<Vertex<?>> swap = current;
+          current = next;
+          next = swap;
+          depth++;
+        }
+      }
+      return Outcome.COMPLETED;
+    } finally {
+      stack.clear();
+      nextLevel.clear();
+      verticesVisited = vertices;
+      edgesScanned = edges;
+      revisitsSkipped = revisits;
+      maxFrontier = frontier;
+    }
+  }
+}
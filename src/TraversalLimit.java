@@ -0,0 +1,72 @@
+/**
+ * Bounds on how far a traversal may go: a largest depth, counted in followed edges from the start
+ * vertex, and a largest number of vertex visits, the start vertex included.
+ *
+ * A bounded traversal runs breadth-first, so when it is cut short it has visited the vertices
+ * nearest the start. Limits are immutable and may be shared.
+ */
+public final class TraversalLimit {
+  /** No limit at all; a traversal bounded by it visits everything the unbounded one does. */
+  public static final TraversalLimit NONE = new TraversalLimit(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  private final int maxDepth;
+  private final int maxVisits;
+
+  private TraversalLimit(int maxDepth, int maxVisits) {
+    this.maxDepth = maxDepth;
+    this.maxVisits = maxVisits;
+  }
+
+  /**
+   * @param maxDepth The largest number of edges between the start and a visited vertex.
+   * @return A limit on depth only.
+   * @throws IllegalArgumentException if maxDepth is negative.
+   */
+  public static TraversalLimit depth(int maxDepth) {
+    return of(maxDepth, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param maxVisits The largest number of vertices to visit.
+   * @return A limit on visits only.
+   * @throws IllegalArgumentException if maxVisits is not positive.
+   */
+  public static TraversalLimit visits(int maxVisits) {
+    return of(Integer.MAX_VALUE, maxVisits);
+  }
+
+  /**
+   * @param maxDepth The largest number of edges between the start and a visited vertex.
+   * @param maxVisits The largest number of vertices to visit.
+   * @return A limit on both depth and visits.
+   * @throws IllegalArgumentException if maxDepth is negative or maxVisits is not positive.
+   */
+  public static TraversalLimit of(int maxDepth, int maxVisits) {
+    if(maxDepth < 0){
+      throw new IllegalArgumentException("Max depth cannot be negative: " + maxDepth);
+    }
+    if(maxVisits <= 0){
+      throw new IllegalArgumentException("Max visits must be positive: " + maxVisits);
+    }
+    return new TraversalLimit(maxDepth, maxVisits);
+  }
+
+  /**
+   * @return The largest number of edges between the start and a visited vertex.
+   */
+  public int maxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * @return The largest number of vertices to visit.
+   */
+  public int maxVisits() {
+    return maxVisits;
+  }
+
+  @Override
+  public String toString() {
+    return "TraversalLimit[maxDepth=" + maxDepth + ", maxVisits=" + maxVisits + "]";
+  }
+}
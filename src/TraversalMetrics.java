@@ -0,0 +1,319 @@
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Collects what the traversals of a Practice cost: vertices visited, edges scanned, revisits
+ * skipped, the largest frontier, wall time and bytes allocated by the traversing thread.
+ *
+ * Metrics are opt-in: pass an instance to the Practice constructor. A Practice created without
+ * one never reads the clock or the allocation counter, and its engine only keeps a few local
+ * counters, so the uninstrumented path costs nothing measurable.
+ *
+ * Every traversal run by the engine is recorded as a Sample and added to running totals, which
+ * can be read individually or exported together with counters(). The sample with the longest wall
+ * time is kept, which is usually enough to find a pathological root such as a dense cycle or a
+ * deep chain; subclasses may override onSample to see every sample. Samples refer to their root
+ * weakly, so the slowest sample never keeps a graph alive after the caller has dropped it. When JFR events are enabled,
+ * every sample is also committed as a "dfs.Traversal" event to any running flight recording.
+ *
+ * Traversals that do not run on the engine (CSR and mapped graphs, parallel traversals, streams
+ * and the direction-optimizing strategy) are not recorded.
+ *
+ * A TraversalMetrics may be shared by several Practice instances and threads.
+ */
+public class TraversalMetrics {
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  /**
+   * The cost of one traversal.
+   */
+  public static final class Sample {
+    private final WeakReference<Vertex<?>> root;
+    private final long verticesVisited;
+    private final long edgesScanned;
+    private final long revisitsSkipped;
+    private final int maxFrontier;
+    private final long wallNanos;
+    private final long allocatedBytes;
+
+    Sample(Vertex<?> root, long verticesVisited, long edgesScanned, long revisitsSkipped, int maxFrontier,
+           long wallNanos, long allocatedBytes) {
+      this.root = new WeakReference<>(root);
+      this.verticesVisited = verticesVisited;
+      this.edgesScanned = edgesScanned;
+      this.revisitsSkipped = revisitsSkipped;
+      this.maxFrontier = maxFrontier;
+      this.wallNanos = wallNanos;
+      this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return The vertex the traversal started from, or null if it has since been garbage collected.
+     */
+    public Vertex<?> root() {
+      return root.get();
+    }
+
+    /**
+     * @return The number of vertices reached, including the root.
+     */
+    public long verticesVisited() {
+      return verticesVisited;
+    }
+
+    /**
+     * @return The number of neighbor entries examined, including null entries and skipped edges.
+     */
+    public long edgesScanned() {
+      return edgesScanned;
+    }
+
+    /**
+     * @return The number of followed edges that led to an already visited vertex.
+     */
+    public long revisitsSkipped() {
+      return revisitsSkipped;
+    }
+
+    /**
+     * @return The largest number of vertices waiting to be expanded at any one time.
+     */
+    public int maxFrontier() {
+      return maxFrontier;
+    }
+
+    /**
+     * @return The wall time of the traversal in nanoseconds.
+     */
+    public long wallNanos() {
+      return wallNanos;
+    }
+
+    /**
+     * @return The bytes allocated by the traversing thread, or 0 if the JVM cannot measure it.
+     */
+    public long allocatedBytes() {
+      return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+      Vertex<?> vertex = root.get();
+      return "Sample[root=" + (vertex == null ? null : vertex.data) + ", vertices=" + verticesVisited + ", edges="
+          + edgesScanned + ", revisits=" + revisitsSkipped + ", maxFrontier=" + maxFrontier + ", wallNanos="
+          + wallNanos + ", allocatedBytes=" + allocatedBytes + "]";
+    }
+  }
+
+  @Name("dfs.Traversal")
+  @Label("Graph Traversal")
+  @Category("Graph")
+  @Description("One traversal run by a Practice with TraversalMetrics")
+  static final class TraversalEvent extends Event {
+    @Label("Root")
+    String root;
+
+    @Label("Vertices Visited")
+    long verticesVisited;
+
+    @Label("Edges Scanned")
+    long edgesScanned;
+
+    @Label("Revisits Skipped")
+    long revisitsSkipped;
+
+    @Label("Max Frontier")
+    int maxFrontier;
+
+    @Label("Wall Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long wallTime;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+  }
+
+  private final boolean jfrEvents;
+  private final LongAdder traversals = new LongAdder();
+  private final LongAdder verticesVisited = new LongAdder();
+  private final LongAdder edgesScanned = new LongAdder();
+  private final LongAdder revisitsSkipped = new LongAdder();
+  private final LongAdder wallNanos = new LongAdder();
+  private final LongAdder allocatedBytes = new LongAdder();
+  private final LongAccumulator maxFrontier = new LongAccumulator(Math::max, 0);
+  private final AtomicReference<Sample> slowest = new AtomicReference<>();
+
+  /**
+   * Creates metrics that keep counters only.
+   */
+  public TraversalMetrics() {
+    this(false);
+  }
+
+  /**
+   * Creates metrics that keep counters and optionally emit a JFR event per traversal.
+   *
+   * @param jfrEvents True to commit a "dfs.Traversal" event for every recorded traversal.
+   */
+  public TraversalMetrics(boolean jfrEvents) {
+    this.jfrEvents = jfrEvents;
+  }
+
+  /**
+   * Called by the engine before a traversal starts.
+   *
+   * @return The allocation counter of the current thread, to pass to record.
+   */
+  long begin() {
+    return allocatedBytesOfCurrentThread();
+  }
+
+  /**
+   * Called by the engine after a traversal ends, normally or not.
+   */
+  void record(Vertex<?> root, long vertices, long edges, long revisits, int frontier, long nanos, long allocatedBefore) {
+    long allocatedAfter = allocatedBytesOfCurrentThread();
+    Sample sample = new Sample(root, vertices, edges, revisits, frontier, nanos,
+        allocatedBefore < 0 || allocatedAfter < 0 ? 0 : allocatedAfter - allocatedBefore);
+
+    traversals.increment();
+    verticesVisited.add(vertices);
+    edgesScanned.add(edges);
+    revisitsSkipped.add(revisits);
+    wallNanos.add(nanos);
+    allocatedBytes.add(sample.allocatedBytes);
+    maxFrontier.accumulate(frontier);
+    slowest.accumulateAndGet(sample, (current, next) -> current == null || next.wallNanos > current.wallNanos ? next : current);
+
+    if(jfrEvents){
+      TraversalEvent event = new TraversalEvent();
+      if(event.shouldCommit()){
+        event.root = root == null ? null : String.valueOf(root.data);
+        event.verticesVisited = vertices;
+        event.edgesScanned = edges;
+        event.revisitsSkipped = revisits;
+        event.maxFrontier = frontier;
+        event.wallTime = nanos;
+        event.allocated = sample.allocatedBytes;
+        event.commit();
+      }
+    }
+    onSample(sample);
+  }
+  private static long allocatedBytesOfCurrentThread() {
+    if(THREADS instanceof com.sun.management.ThreadMXBean){
+      return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+
+  /**
+   * Called after every recorded traversal, on the thread that ran it. Does nothing by default.
+   *
+   * @param sample The cost of the traversal.
+   */
+  protected void onSample(Sample sample) {
+  }
+
+  /**
+   * @return The number of traversals recorded.
+   */
+  public long traversals() {
+    return traversals.sum();
+  }
+
+  /**
+   * @return The total number of vertices visited.
+   */
+  public long verticesVisited() {
+    return verticesVisited.sum();
+  }
+
+  /**
+   * @return The total number of neighbor entries examined.
+   */
+  public long edgesScanned() {
+    return edgesScanned.sum();
+  }
+
+  /**
+   * @return The total number of followed edges that led to an already visited vertex.
+   */
+  public long revisitsSkipped() {
+    return revisitsSkipped.sum();
+  }
+
+  /**
+   * @return The largest frontier of any recorded traversal.
+   */
+  public long maxFrontier() {
+    return maxFrontier.get();
+  }
+
+  /**
+   * @return The total wall time of all recorded traversals in nanoseconds.
+   */
+  public long wallNanos() {
+    return wallNanos.sum();
+  }
+
+  /**
+   * @return The total bytes allocated by recorded traversals.
+   */
+  public long allocatedBytes() {
+    return allocatedBytes.sum();
+  }
+
+  /**
+   * @return The recorded traversal with the longest wall time, or null if none was recorded.
+   */
+  public Sample slowest() {
+    return slowest.get();
+  }
+
+  /**
+   * Exports every running total under a stable name, for logging or a metrics registry.
+   *
+   * @return The totals, in a fixed order.
+   */
+  public Map<String, Long> counters() {
+    Map<String, Long> counters = new LinkedHashMap<>();
+    counters.put("traversals", traversals());
+    counters.put("verticesVisited", verticesVisited());
+    counters.put("edgesScanned", edgesScanned());
+    counters.put("revisitsSkipped", revisitsSkipped());
+    counters.put("maxFrontier", maxFrontier());
+    counters.put("wallNanos", wallNanos());
+    counters.put("allocatedBytes", allocatedBytes());
+    return counters;
+  }
+
+  /**
+   * Clears every total and the slowest sample.
+   */
+  public void reset() {
+    traversals.reset();
+    verticesVisited.reset();
+    edgesScanned.reset();
+    revisitsSkipped.reset();
+    wallNanos.reset();
+    allocatedBytes.reset();
+    maxFrontier.reset();
+    slowest.set(null);
+  }
+}
@@ -0,0 +1,25 @@
+/**
+ * The order in which a reachability traversal explores the graph. Every strategy reaches exactly
+ * the same vertices; they differ only in how much work they do to get there.
+ */
+public enum TraversalStrategy {
+  /**
+   * Depth-first search on an explicit stack. The default, and the cheapest for deep, narrow graphs.
+   */
+  DFS,
+
+  /**
+   * Level-synchronous breadth-first search that expands each level top-down, from every frontier
+   * vertex to its neighbors.
+   */
+  BFS,
+
+  /**
+   * Breadth-first search that switches from top-down to bottom-up expansion once the frontier is
+   * large, so that on wide, low-diameter graphs each unvisited vertex checks its in-edges for a
+   * frontier parent and stops at the first one, instead of every frontier edge being inspected.
+   * Bottom-up steps need reverse adjacency and a fixed vertex universe, so this strategy only
+   * applies to frozen graphs; elsewhere it behaves like BFS.
+   */
+  DIRECTION_OPTIMIZING
+}
@@ -4,6 +4,8 @@ import java.util.List;
 public class Vertex<T> {
   T data;
   List<Vertex<T>> neighbors;
+  Object owner; // claimed once, by the first VertexIndex to freeze this vertex
+  int id; // the id in the owning index, read only by that index
 
   public Vertex(T data) {
     this(data, new ArrayList<>());
@@ -0,0 +1,222 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A graph-freeze step that assigns dense ids to every vertex reachable from a root.
+ *
+ * Once a graph is indexed, visited state for a traversal can live in an epoch-stamped int array
+ * instead of a HashSet: a vertex is visited in the current query if its stamp equals the current
+ * epoch. Starting a new query just increments the epoch, so repeated queries on the same graph
+ * allocate nothing and never need a clearing pass.
+ *
+ * Vertices added to the graph after it was frozen have no id in this index. They are still
+ * handled correctly, by falling back to a hash set, just without the allocation savings.
+ *
+ * Every index keeps its own ids, so any number of indexes may be frozen over the same vertices, by
+ * callers or by structures such as IncreasingPathIndex, without affecting each other. The first
+ * index to freeze a vertex also claims a slot on the vertex, which its idOf reads directly; the
+ * claim is atomic and never overwritten, and every other index looks the vertex up in its own
+ * open-addressing table keyed by vertex identity instead.
+ *
+ * Edits to neighbor lists never change ids, but structures built from the index, such as the CSR
+ * snapshot Practice uses for DIRECTION_OPTIMIZING, only see them once invalidate has been called.
+ *
+ * The visited set is shared by all queries on the index, so an index must not be used by more
+ * than one traversal at a time.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+public final class VertexIndex<T> {
+  static final int UNINDEXED = -1;
+  private static final VarHandle OWNER;
+
+  static {
+    try {
+      OWNER = MethodHandles.lookup().findVarHandle(Vertex.class, "owner", Object.class);
+    } catch(ReflectiveOperationException e){
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // Marks the vertices this index claimed; a token rather than the index, so that the vertices
+  // do not keep a dropped index alive.
+  private final Object owner = new Object();
+  private final Vertex<?>[] vertices;
+  // slots[h] is 0 when empty, otherwise 1 + the id of an unclaimed vertex whose identity hash
+  // probes to h.
+  private final int[] slots;
+  private final int shift;
+  private final EpochVisitedSet visited;
+  private long version;
+
+  // Claims and ids are written in the constructor to vertices reached through the final vertices
+  // array, so every thread that sees the index also sees them.
+  private VertexIndex(Vertex<?>[] vertices) {
+    this.vertices = vertices;
+    int unclaimed = 0;
+    for(int id = 0; id < vertices.length; id++){
+      if(OWNER.compareAndSet(vertices[id], (Object) null, owner)){
+        vertices[id].id = id;
+      } else {
+        unclaimed++;
+      }
+    }
+
+    // At most half the slots are in use, so probe sequences stay short.
+    int bits = 33 - Integer.numberOfLeadingZeros(Math.max(1, unclaimed - 1));
+    this.slots = new int[1 << bits];
+    this.shift = 32 - bits;
+    for(int id = 0; id < vertices.length; id++){
+      if(vertices[id].owner == owner) continue;
+      int slot = slotOf(vertices[id]);
+      while(slots[slot] != 0){
+        slot = (slot + 1) & (slots.length - 1);
+      }
+      slots[slot] = id + 1;
+    }
+    this.visited = new EpochVisitedSet();
+  }
+
+  /**
+   * Assigns dense ids 0..size()-1 to every vertex reachable from the given root, in the same
+   * depth-first discovery order CsrGraph uses, so the root always has id 0.
+   *
+   * @param root The vertex to index from.
+   * @return The index.
+   * @throws NullPointerException if root is null.
+   */
+  public static <T> VertexIndex<T> freeze(Vertex<T> root) {
+    if(root == null){
+      throw new NullPointerException("Root cannot be null.");
+    }
+    List<Vertex<T>> order = new ArrayList<>();
+    new TraversalEngine().traverse(root, new HashSet<Vertex<T>>()::add, vertex -> order.add(vertex));
+
+    return new VertexIndex<>(order.toArray(new Vertex<?>[0]));
+  }
+
+  /**
+   * @return The number of indexed vertices.
+   */
+  public int size() {
+    return vertices.length;
+  }
+
+  /**
+   * @param id A vertex id.
+   * @return The vertex with the given id.
+   * @throws IndexOutOfBoundsException if id is not in 0..size()-1.
+   */
+  @SuppressWarnings("unchecked")
+  public Vertex<T> vertex(int id) {
+    return (Vertex<T>) vertices[id];
+  }
+
+  /**
+   * @param vertex Any vertex.
+   * @return The id of the vertex in this index, or -1 if it is not indexed here.
+   */
+  public int idOf(Vertex<?> vertex) {
+    return vertex.owner == owner ? vertex.id : lookUp(vertex);
+  }
+  private int lookUp(Vertex<?> vertex) {
+    for(int slot = slotOf(vertex); ; slot = (slot + 1) & (slots.length - 1)){
+      int entry = slots[slot];
+      if(entry == 0) return UNINDEXED;
+      if(vertices[entry - 1] == vertex) return entry - 1;
+    }
+  }
+
+  private int slotOf(Vertex<?> vertex) {
+    return (System.identityHashCode(vertex) * 0x9E3779B9) >>> shift;
+  }
+
+  /**
+   * Increases the graph version, so that every structure built from this index at an earlier
+   * version is rebuilt before its next use. Must be called after editing the neighbor list of any
+   * vertex reachable from the root.
+   */
+  public void invalidate() {
+    version++;
+  }
+
+  /**
+   * @return The current graph version, starting at 0.
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Starts a new query and returns the index's reusable visited set, with no vertex marked.
+   * Calling this again invalidates the set returned by the previous call.
+   *
+   * @return The visited set for the new query.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> VisitedSet<V> visited() {
+    visited.nextEpoch();
+    return (VisitedSet<V>) (VisitedSet<?>) visited;
+  }
+
+  /**
+   * Returns a new visited set that may be shared by concurrent traversals, such as those run by
+   * ParallelTraversal. Indexed vertices are claimed in an atomic bitset with one bit per id;
+   * unindexed vertices fall back to a concurrent hash set.
+   *
+   * @return A new, empty, thread-safe visited set.
+   */
+  public <V> VisitedSet<V> concurrentVisited() {
+    AtomicLongArray bits = new AtomicLongArray((vertices.length + 63) >>> 6);
+    Set<Vertex<V>> unindexed = ConcurrentHashMap.newKeySet();
+    return vertex -> {
+      int id = idOf(vertex);
+      if(id < 0) return unindexed.add(vertex);
+
+      int word = id >>> 6;
+      long bit = 1L << id;
+      long old;
+      do {
+        old = bits.get(word);
+        if((old & bit) != 0) return false;
+      } while(!bits.compareAndSet(word, old, old | bit));
+      return true;
+    };
+  }
+
+  private final class EpochVisitedSet implements VisitedSet<Object> {
+    private final int[] stamps = new int[vertices.length];
+    private int epoch;
+    private Set<Vertex<Object>> unindexed;
+
+    void nextEpoch() {
+      epoch++;
+      if(epoch == 0){
+        Arrays.fill(stamps, 0);
+        epoch = 1;
+      }
+      if(unindexed != null && !unindexed.isEmpty()){
+        unindexed.clear();
+      }
+    }
+
+    @Override
+    public boolean add(Vertex<Object> vertex) {
+      int id = idOf(vertex);
+      if(id < 0){
+        if(unindexed == null) unindexed = new HashSet<>();
+        return unindexed.add(vertex);
+      }
+      if(stamps[id] == epoch) return false;
+      stamps[id] = epoch;
+      return true;
+    }
+  }
+}
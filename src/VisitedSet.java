@@ -0,0 +1,18 @@
+/**
+ * Records which vertices a traversal has already reached.
+ *
+ * Any Set of vertices can act as a visited set through a method reference to its add method.
+ * A VertexIndex provides a reusable, allocation-free implementation for frozen graphs.
+ *
+ * @param <T> The type of data held by the vertices.
+ */
+@FunctionalInterface
+public interface VisitedSet<T> {
+  /**
+   * Marks a vertex as visited.
+   *
+   * @param vertex The vertex being reached.
+   * @return True if the vertex had not been visited before, false if it already had.
+   */
+  boolean add(Vertex<T> vertex);
+}